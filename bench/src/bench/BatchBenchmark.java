@@ -0,0 +1,64 @@
+package bench;
+
+import code.BatchSolver;
+import code.Olympics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves a batch of seeded generated grids with the BatchSolver at different parallelism levels
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+    @Param({"UC", "AS1"})
+    public String strategy;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"256"})
+    public int batchSize;
+
+    private List<BatchSolver.Job> jobs;
+    private BatchSolver solver;
+
+    @Setup
+    public void setUp() {
+        jobs = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < batchSize; ++i) {
+            jobs.add(new BatchSolver.Job(Olympics.genGrid(i), strategy));
+        }
+
+        solver = new BatchSolver(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        solver.close();
+    }
+
+    @Benchmark
+    public BatchSolver.BatchResult solveBatch() {
+        return solver.solve(jobs);
+    }
+}
@@ -0,0 +1,96 @@
+package bench;
+
+import DataStructures.ADTs.Frontier;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.BucketFrontier;
+import DataStructures.IndexedPriorityFrontier;
+import DataStructures.PriorityFrontier;
+import code.Olympics;
+import code.SearchEngine;
+
+import java.util.function.Function;
+
+/**
+ * Compares the priority frontiers on every informed strategy over the reference grids.
+ * Usage: java -cp bench/target/benchmarks.jar bench.FrontierBenchmark [iterations]
+ */
+public class FrontierBenchmark {
+    private static final String[] frontierNames = {"PriorityQueue", "IndexedHeap", "BucketQueue"};
+    private static final String[] strategyNames = {"UC", "GR1", "GR2", "AS1", "AS2"};
+
+    private static Frontier frontier(int kind) {
+        return switch (kind) {
+            case 0 -> new PriorityFrontier();
+            case 1 -> new IndexedPriorityFrontier();
+            default -> new BucketFrontier();
+        };
+    }
+
+    private static NodeEvaluator evaluator(Olympics olympics, String strategy) {
+        return switch (strategy) {
+            case "UC" -> olympics.costEvaluator();
+            case "GR1" -> olympics.greedyEvaluator(1);
+            case "GR2" -> olympics.greedyEvaluator(2);
+            case "AS1" -> olympics.aStarEvaluator(1);
+            default -> olympics.aStarEvaluator(2);
+        };
+    }
+
+    /**
+     * Solves every grid once and returns the number of expanded nodes
+     */
+    private static long run(Olympics[] problems, Function<Olympics, SearchEngine> strategy) {
+        long expandedNodes = 0;
+
+        for (Olympics olympics : problems) {
+            SearchEngine engine = strategy.apply(olympics);
+
+            if (engine.search() == null) {
+                throw new IllegalStateException("No solution found for " + olympics.problem());
+            }
+
+            expandedNodes += engine.statistics.expandedNodes;
+        }
+
+        return expandedNodes;
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        Olympics[] problems = new Olympics[Grids.all.length];
+        for (int i = 0; i < problems.length; ++i) {
+            problems[i] = new Olympics(Grids.all[i]);
+            // Informed strategies visit a tiny part of the state space, a small closed list keeps the measurement
+            // focused on the frontier
+            problems[i].visitedCapacity = 1024;
+        }
+
+        System.out.printf("%-8s %-14s %14s %16s%n", "Strategy", "Frontier", "us/all grids", "expanded/s");
+
+        for (String strategyName : strategyNames) {
+            for (int kind = 0; kind < frontierNames.length; ++kind) {
+                int frontierKind = kind;
+                Function<Olympics, SearchEngine> strategy =
+                        olympics -> new SearchEngine(olympics, frontier(frontierKind), evaluator(olympics, strategyName));
+
+                // Warm up
+                for (int i = 0; i < iterations; ++i) {
+                    run(problems, strategy);
+                }
+
+                long expandedNodes = 0;
+                long start = System.nanoTime();
+
+                for (int i = 0; i < iterations; ++i) {
+                    expandedNodes += run(problems, strategy);
+                }
+
+                long elapsed = System.nanoTime() - start;
+
+                System.out.printf("%-8s %-14s %14.1f %16.0f%n", strategyName, frontierNames[kind],
+                        elapsed / 1e3 / iterations, expandedNodes / (elapsed / 1e9));
+            }
+        }
+    }
+}
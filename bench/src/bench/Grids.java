@@ -0,0 +1,40 @@
+package bench;
+
+import code.Olympics;
+
+/**
+ * Reference grids shared by the benchmarks, the same fixtures used by TestOlympics
+ */
+public final class Grids {
+    public static final String grid5 = "5,5;1,2;3,2;0,3,2,1,3,4,4,0,4,3;0,1,0,2,3,1,3,3,4,2";
+    public static final String grid6 = "6,6;5,5;4,4;2,0,3,3,5,2,1,0;3,4,2,5,3,1,4,0,4,2,0,3";
+    public static final String grid7 = "7,7;4,0;0,3;0,5,5,0,4,1,4,3,5,2,5,4,4,2;2,0,0,1,6,3,6,2,1,2,2,3,1,6,2,1,1,1,1,5,3,0,2,2,6,1,3,1";
+    public static final String grid8 = "8,8;2,7;1,1;3,2,0,4,3,7,4,4;2,0,7,6,5,0,7,1,3,5";
+    public static final String grid9 = "9,9;1,2;5,2;7,4,8,6,6,7,5,5,3,6,4,3,6,6,2,6,5,1;3,8,4,7,7,1,8,4,1,0,6,8,3,7,2,2";
+    public static final String grid10 = "10,10;6,7;9,9;2,2,9,2;0,8,3,1,1,8,1,1,4,5,0,9,0,3,4,2,2,0,3,9,4,4,1,7,8,8,3,4";
+    public static final String grid11 = "11,11;3,4;0,8;1,2,3,5,4,6,6,0;5,0,5,6,6,9,2,9,9,2,9,6,4,7,0,1,2,0,7,10";
+    public static final String grid12 = "12,12;8,9;2,3;9,6,0,5,8,10,0,7,6,7,2,5,1,8,6,11,0,6,3,7,1,11,0,1,1,5,7,1;8,8,7,0,11,7,0,3,3,3,1,6,3,5,2,6,10,10,8,2,10,9,10,2";
+    public static final String grid13 = "13,13;8,12;7,12;8,1,10,9,8,7,8,5,8,4,5,4,5,3,5,5,5,6,7,8,9,11,2,3;10,5,11,6,5,1,10,2,12,2,11,8,9,0,7,3,0,10,3,10";
+    public static final String grid14 = "14,14;1,13;2,1;0,11,1,11,6,9,1,1,8,11,7,1,8,5,10,7,7,0,7,9,4,7,3,3,13,11,7,4;10,8,13,7,3,6,12,3,6,0,11,1,9,12,0,6,12,7,4,6,11,2,5,1,13,2";
+    public static final String grid15 = "15,15;5,1;14,1;3,14,11,11,12,12,4,8,8,14,5,0,13,6,0,6,5,11,11,0,7,0,12,11,6,2;6,1,14,10,6,5,6,11,4,2,9,1,2,12,2,6,1,7,2,7,2,3,2,5,8,11,4,3,2,0,5,10";
+
+    public static final String[] all = {grid5, grid6, grid7, grid8, grid9, grid10, grid11, grid12, grid13, grid14, grid15};
+
+    private Grids() {
+
+    }
+
+    /**
+     * Resolves a benchmark parameter, either the name of a reference grid (grid5 ... grid15) or seed-N for the grid
+     * generated by Olympics.genGrid(N)
+     */
+    public static String byName(String name) {
+        if (name.startsWith("seed-")) {
+            return Olympics.genGrid(Long.parseLong(name.substring("seed-".length())));
+        }
+
+        int size = Integer.parseInt(name.substring("grid".length()));
+
+        return all[size - 5];
+    }
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import code.Olympics;
+import code.SearchResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Olympics.solve for every strategy over the reference grids and a few seeded generated grids.
+ * Throughput and average time are reported by JMH, allocation rate with -prof gc and the expanded nodes per second
+ * through the auxiliary counter.
+ * Usage: java -jar bench/target/benchmarks.jar SolveBenchmark -prof gc
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolveBenchmark {
+    @Param({"BF", "DF", "UC", "GR1", "GR2", "AS1", "AS2"})
+    public String strategy;
+
+    @Param({"grid5", "grid6", "grid7", "grid8", "grid9", "grid10", "grid11", "grid12", "grid13", "grid14", "grid15",
+            "seed-1", "seed-2", "seed-3"})
+    public String grid;
+
+    private String problem;
+
+    /**
+     * Expanded and generated nodes of every solve, reported by JMH as rates next to the primary result
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long expandedNodes;
+        public long generatedNodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            expandedNodes = 0;
+            generatedNodes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        problem = Grids.byName(grid);
+    }
+
+    @Benchmark
+    public String solve(Counters counters) {
+        SearchResult result = Olympics.solveWithStatistics(problem, strategy, false);
+
+        counters.expandedNodes += result.statistics.expandedNodes;
+        counters.generatedNodes += result.statistics.generatedNodes;
+
+        return result.solution;
+    }
+}
@@ -0,0 +1,31 @@
+package DataStructures.ADTs;
+
+import DataStructures.Node;
+
+/**
+ * Collection of generated but not yet expanded nodes, the order in which nodes are removed defines the search strategy
+ */
+public interface Frontier {
+    void add(Node node);
+
+    Node remove();
+
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     * Whether the frontier keeps a single node per state and can replace it when a better path to that state is found.
+     * The search engine then offers generated duplicates to the frontier instead of dropping them.
+     */
+    default boolean decreasesKey() {
+        return false;
+    }
+
+    /**
+     * @return true if the state is queued with a lower evaluation than the passed one
+     */
+    default boolean improves(long state, int evaluation) {
+        return false;
+    }
+}
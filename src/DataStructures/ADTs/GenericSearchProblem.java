@@ -1,25 +1,67 @@
 package DataStructures.ADTs;
 
+import DataStructures.LongHashSet;
 import DataStructures.Node;
+import DataStructures.PackedState;
+import DataStructures.SuccessorBuffer;
 
 public abstract class GenericSearchProblem {
+    // Names of the operators, everywhere else an operator is its opcode: its index in this array
     public String[] operators;
     public State initialState;
+    // Initial state packed into a long, this is what the search engine actually expands
+    public long initialPackedState;
+    // Packed goal state if the goal is a single state, NONE otherwise, the backward half of bidirectional search
+    // starts from it
+    public long goalPackedState = PackedState.NONE;
+    // Initial capacity of the closed list used by the search engine
+    public int visitedCapacity = 16;
 
     public GenericSearchProblem() {
 
     }
 
-    public abstract boolean goalTest(State state, String operator);
+    public abstract boolean goalTest(State state, int operator);
 
-    public abstract int pathCost(Node parent, String operator);
+    public abstract boolean goalTest(long state, int operator);
+
+    public abstract boolean validOperation(long state, int operator);
+
+    // Only called after validOperation returned true for the same state and operator
+    public abstract long applyOperation(long state, int operator);
+
+    // Writes every state reachable from the passed state by one valid operation into the buffer
+    public abstract void successors(long state, SuccessorBuffer buffer);
+
+    // Same as successors(long, SuccessorBuffer) but also writes the hash of every successor, hash is the hash of the
+    // passed state. Problems with incremental hashes derive the hashes of the successors from it, by default every
+    // successor is hashed from scratch
+    public void successors(long state, int hash, SuccessorBuffer buffer) {
+        successors(state, buffer);
+
+        for (int i = 0; i < buffer.size; ++i) {
+            buffer.hashes[i] = hash(buffer.states[i]);
+        }
+    }
+
+    // Hash of a packed state used by the closed list and the transposition tables, must agree with the hashes written
+    // by successors(long, int, SuccessorBuffer)
+    public int hash(long state) {
+        return LongHashSet.mix(state);
+    }
+
+    // Writes every state the passed state is reachable from by one valid operation into the buffer, together with
+    // that operation
+    public abstract void predecessors(long state, SuccessorBuffer buffer);
+
+    public abstract int pathCost(Node parent, int operator);
 
     // This is used for heuristics, basically if an invalid action is done we add a penalty to the path cost
-    public abstract int pathCost(Node parent, String operator, int penalty);
+    public abstract int pathCost(Node parent, int operator, int penalty);
 
-    public abstract int heuristicOne(Node parent, String operator);
+    public abstract int heuristicOne(Node parent, int operator);
 
-    public abstract int heuristicTwo(Node parent, String operator);
+    public abstract int heuristicTwo(Node parent, int operator);
 
     public abstract String generalSearch(String problem, String qingFunc);
 }
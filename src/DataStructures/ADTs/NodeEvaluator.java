@@ -0,0 +1,24 @@
+package DataStructures.ADTs;
+
+import DataStructures.Node;
+
+/**
+ * Evaluates the child produced by applying an operator on a parent node, operators are passed as opcodes.
+ * All values follow the reward convention of the problem: the frontier prefers nodes with a higher f.
+ */
+public interface NodeEvaluator {
+    /**
+     * Path cost of the child
+     */
+    int g(Node parent, int operator);
+
+    /**
+     * Estimated remaining distance from the child to a goal, 0 for uninformed strategies
+     */
+    int h(Node parent, int operator);
+
+    /**
+     * Value the frontier orders the child by
+     */
+    int f(Node parent, int operator, int g, int h);
+}
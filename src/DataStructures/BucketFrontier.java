@@ -0,0 +1,158 @@
+package DataStructures;
+
+import DataStructures.ADTs.Frontier;
+
+import java.util.Arrays;
+
+/**
+ * Bucket queue on the integer node evaluation, nodes with the same evaluation share a bucket and the highest
+ * non empty bucket is removed from first, so add and remove are O(1) apart from skipping empty buckets.
+ * The covered range of evaluations grows on demand, path costs of the problem are small integers so the number of
+ * buckets stays small.
+ * Decrease-key is supported lazily: the best evaluation of every queued state is remembered and outdated nodes are
+ * skipped when they reach the top.
+ * Like IndexedPriorityFrontier a state that was removed is never queued again, so the search is only optimal with
+ * evaluations that never increase along a path, such as those of Olympics.costEvaluator and Olympics.aStarEvaluator.
+ */
+public class BucketFrontier implements Frontier {
+    // Best evaluation of a state that already left the frontier
+    private static final int REMOVED = Integer.MIN_VALUE;
+    // Best evaluation returned for a state that never entered the frontier
+    private static final int ABSENT = Integer.MIN_VALUE + 1;
+    private static final int INITIAL_BUCKETS = 1024;
+
+    private Node[][] buckets;
+    private int[] counts;
+    // Evaluation stored in buckets[0]
+    private int base;
+    // Highest bucket that may contain nodes
+    private int top;
+    // Number of states queued, outdated nodes are not counted
+    private int size;
+    private final LongIntHashMap best;
+
+    public BucketFrontier() {
+        this(16);
+    }
+
+    public BucketFrontier(int expectedStates) {
+        best = new LongIntHashMap(expectedStates);
+        top = -1;
+    }
+
+    @Override
+    public boolean decreasesKey() {
+        return true;
+    }
+
+    @Override
+    public boolean improves(long state, int evaluation) {
+        int queued = best.get(state, ABSENT);
+
+        return queued != REMOVED && queued != ABSENT && queued < evaluation;
+    }
+
+    @Override
+    public void add(Node node) {
+        int queued = best.get(node.packedState, ABSENT);
+
+        if (queued == REMOVED || (queued != ABSENT && queued >= node.evaluation)) {
+            return;
+        }
+
+        if (queued == ABSENT) {
+            size += 1;
+        }
+
+        best.put(node.packedState, node.evaluation);
+
+        int bucket = bucketOf(node.evaluation);
+
+        if (counts[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], buckets[bucket].length << 1);
+        }
+
+        buckets[bucket][counts[bucket]] = node;
+        counts[bucket] += 1;
+
+        top = Math.max(top, bucket);
+    }
+
+    @Override
+    public Node remove() {
+        while (true) {
+            while (counts[top] == 0) {
+                top -= 1;
+            }
+
+            counts[top] -= 1;
+            Node node = buckets[top][counts[top]];
+            buckets[top][counts[top]] = null;
+
+            // Skip nodes that were replaced by a better node of the same state
+            if (best.get(node.packedState, ABSENT) == node.evaluation) {
+                best.put(node.packedState, REMOVED);
+                size -= 1;
+
+                return node;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bucket of an evaluation, moving and widening the covered range if the evaluation is outside of it
+     */
+    private int bucketOf(int evaluation) {
+        if (buckets == null) {
+            buckets = new Node[INITIAL_BUCKETS][];
+            counts = new int[INITIAL_BUCKETS];
+            base = evaluation - INITIAL_BUCKETS / 2;
+        }
+
+        if (evaluation < base || evaluation - base >= buckets.length) {
+            widen(evaluation);
+        }
+
+        int bucket = evaluation - base;
+
+        if (buckets[bucket] == null) {
+            buckets[bucket] = new Node[4];
+        }
+
+        return bucket;
+    }
+
+    private void widen(int evaluation) {
+        int low = Math.min(base, evaluation);
+        int high = Math.max(base + buckets.length, evaluation + 1);
+        int length = buckets.length;
+
+        while (length < 2 * (high - low)) {
+            length <<= 1;
+        }
+
+        // Keep the same amount of free buckets on both sides, evaluations drift in both directions
+        int newBase = low - (length - (high - low)) / 2;
+        int shift = base - newBase;
+
+        Node[][] newBuckets = new Node[length][];
+        int[] newCounts = new int[length];
+        System.arraycopy(buckets, 0, newBuckets, shift, buckets.length);
+        System.arraycopy(counts, 0, newCounts, shift, counts.length);
+
+        buckets = newBuckets;
+        counts = newCounts;
+        base = newBase;
+        top = top == -1 ? -1 : top + shift;
+    }
+}
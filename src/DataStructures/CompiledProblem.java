@@ -0,0 +1,466 @@
+package DataStructures;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Immutable, validated form of a grid description "rows,cols;jarvis;flame;components;poison cells" where a position
+ * is a "row,col" pair and the components and poison cells are lists of pairs separated by commas.
+ * A compiled problem is a binary record of unsigned varints: rows, cols, jarvis cell, flame cell, number of
+ * components, the component cells, number of poison cells and the poison cells, cells being row * cols + col.
+ * compile reads a description with a single pass scanner that never splits the string: numbers are accumulated digit
+ * by digit and every position is checked and appended to the record as soon as it is read. The records of a binary
+ * corpus (see GridCorpus) are wrapped without copying them and checked like descriptions.
+ * Either way the cell lists, the obstacle bitmap and the component index table are built once per problem and shared
+ * with every solve of it without copying, so the lookups of a solve are constant time.
+ * Problems with the description or the record throw a GridFormatException with the offset of the offending character
+ * or byte. One compiled problem can be shared by any number of solves, the visualizer and the batch solver.
+ */
+public final class CompiledProblem {
+    // Largest number of cells of a grid, the distance table stores distances as shorts
+    public static final int MAX_CELLS = DistanceTable.UNREACHABLE;
+
+    public final int rows;
+    public final int cols;
+    public final int jarvisCell;
+    public final int flameCell;
+    public final int componentCount;
+    public final int poisonCount;
+
+    private final ByteBuffer record;
+    // Cells of the components and of the poison cells in the order of the description
+    private final int[] componentCells;
+    private final int[] poisonCells;
+    // Flat obstacle bitmap and component of every cell, -1 if there is no component at the cell
+    private final boolean[] obstacles;
+    private final int[] componentIndex;
+    // Description of the problem, rendered on first use for problems read from a corpus
+    private String grid;
+
+    /**
+     * Wraps a record, the record is decoded into the tables of the problem once and checked like a description:
+     * every cell has to be inside the grid and components and poison cells can not overlap
+     *
+     * @param record Bytes of the record from index 0 to the limit, not copied
+     * @param base Offset of the record in its file, only used for error reports
+     * @throws GridFormatException if the record is malformed
+     */
+    CompiledProblem(ByteBuffer record, long base) {
+        this.record = record;
+
+        int position = 0;
+
+        rows = Varint.read(record, position, base);
+        position += Varint.size(rows);
+        cols = Varint.read(record, position, base);
+        position += Varint.size(cols);
+
+        if (rows == 0 || cols == 0 || (long) rows * cols > MAX_CELLS) {
+            throw new GridFormatException("A grid must have between 1 and " + MAX_CELLS + " cells", base);
+        }
+
+        obstacles = new boolean[rows * cols];
+        componentIndex = new int[rows * cols];
+        Arrays.fill(componentIndex, -1);
+
+        jarvisCell = checkedCell(position, base);
+        position += Varint.size(jarvisCell);
+        flameCell = checkedCell(position, base);
+        position += Varint.size(flameCell);
+
+        componentCount = Varint.read(record, position, base);
+        componentCells = new int[checkedCount(componentCount, position, base)];
+        position += Varint.size(componentCount);
+
+        for (int i = 0; i < componentCount; ++i) {
+            int cell = checkedCell(position, base);
+
+            if (componentIndex[cell] != -1) {
+                throw new GridFormatException("Two components on the same cell", base + position);
+            }
+
+            componentIndex[cell] = i;
+            componentCells[i] = cell;
+            position += Varint.size(cell);
+        }
+
+        poisonCount = Varint.read(record, position, base);
+        poisonCells = new int[checkedCount(poisonCount, position, base)];
+        position += Varint.size(poisonCount);
+
+        for (int i = 0; i < poisonCount; ++i) {
+            int cell = checkedCell(position, base);
+
+            if (cell == jarvisCell || cell == flameCell || componentIndex[cell] != -1) {
+                throw new GridFormatException("Poison cell on jarvis, the flame or a component", base + position);
+            }
+
+            obstacles[cell] = true;
+            poisonCells[i] = cell;
+            position += Varint.size(cell);
+        }
+
+        if (position != record.limit()) {
+            throw new GridFormatException("Expected the end of the record", base + position);
+        }
+    }
+
+    /**
+     * Takes over the tables the scanner built while reading the description
+     */
+    private CompiledProblem(ByteBuffer record, Scanner scanner, int jarvisCell, int flameCell, int[] componentCells,
+                            int[] poisonCells) {
+        this.record = record;
+        this.grid = scanner.text;
+        this.rows = scanner.rows;
+        this.cols = scanner.cols;
+        this.jarvisCell = jarvisCell;
+        this.flameCell = flameCell;
+        this.componentCells = componentCells;
+        this.poisonCells = poisonCells;
+        this.obstacles = scanner.obstacles;
+        this.componentIndex = scanner.componentIndex;
+
+        componentCount = componentCells.length;
+        poisonCount = poisonCells.length;
+    }
+
+    private int checkedCell(int position, long base) {
+        int cell = Varint.read(record, position, base);
+
+        if (cell >= rows * cols) {
+            throw new GridFormatException("Cell " + cell + " is outside of the " + rows + "x" + cols + " grid",
+                    base + position);
+        }
+
+        return cell;
+    }
+
+    /**
+     * Rejects counts that can not fit in the rest of the record before an array of that size is allocated, every
+     * cell takes at least one byte
+     */
+    private int checkedCount(int count, int position, long base) {
+        if (count > record.limit() - position - Varint.size(count)) {
+            throw new GridFormatException("Count " + count + " runs past the end of the record", base + position);
+        }
+
+        return count;
+    }
+
+    /**
+     * Method that compiles a grid description
+     *
+     * @param grid Description of the problem, whitespace between numbers and separators is ignored
+     * @return CompiledProblem
+     * @throws GridFormatException if the description is malformed or describes an impossible grid
+     */
+    public static CompiledProblem compile(String grid) {
+        return new Scanner(grid).compile();
+    }
+
+    /**
+     * @return Cells of the components in the order of the description, shared by every caller and must not be modified
+     */
+    public int[] componentCells() {
+        return componentCells;
+    }
+
+    /**
+     * @return Cells of the poison cells in the order of the description, shared by every caller and must not be
+     * modified
+     */
+    public int[] poisonCells() {
+        return poisonCells;
+    }
+
+    public int componentCell(int component) {
+        return componentCells[component];
+    }
+
+    public int poisonCell(int poison) {
+        return poisonCells[poison];
+    }
+
+    public boolean isObstacle(int cell) {
+        return obstacles[cell];
+    }
+
+    /**
+     * @return Index of the component at the cell or -1
+     */
+    public int componentAt(int cell) {
+        return componentIndex[cell];
+    }
+
+    /**
+     * @return Obstacle bitmap indexed by cell, shared by every caller and must not be modified
+     */
+    public boolean[] obstacles() {
+        return obstacles;
+    }
+
+    /**
+     * @return Component index table indexed by cell, shared by every caller and must not be modified
+     */
+    public int[] componentIndex() {
+        return componentIndex;
+    }
+
+    /**
+     * @return Read only view of the binary record of the problem
+     */
+    public ByteBuffer record() {
+        return record.asReadOnlyBuffer();
+    }
+
+    /**
+     * Method that returns the SHA-256 digest of the record as hex, descriptions of the same grid that only differ in
+     * whitespace or come from a corpus have the same digest
+     *
+     * @return String
+     */
+    public String digest() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(record());
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+        }
+    }
+
+    /**
+     * Two compiled problems are equal if their records are, descriptions of the same grid that only differ in
+     * whitespace or come from a corpus are equal
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CompiledProblem problem && record.equals(problem.record);
+    }
+
+    @Override
+    public int hashCode() {
+        return record.hashCode();
+    }
+
+    /**
+     * @return Description of the problem, in the format of Olympics.genGrid for problems read from a corpus
+     */
+    public String grid() {
+        if (grid == null) {
+            StringBuilder text = new StringBuilder();
+
+            text.append(rows).append(',').append(cols);
+            appendCells(text.append(';'), new int[]{jarvisCell});
+            appendCells(text.append(';'), new int[]{flameCell});
+            appendCells(text.append(';'), componentCells);
+            appendCells(text.append(';'), poisonCells);
+
+            grid = text.toString();
+        }
+
+        return grid;
+    }
+
+    private void appendCells(StringBuilder text, int[] cells) {
+        for (int i = 0; i < cells.length; ++i) {
+            if (i != 0) {
+                text.append(',');
+            }
+
+            text.append(cells[i] / cols).append(',').append(cells[i] % cols);
+        }
+    }
+
+    /**
+     * Reads a description from left to right and appends the record while reading, the tables the scanner fills to
+     * reject overlapping positions become the tables of the compiled problem
+     */
+    private static final class Scanner {
+        final String text;
+        int position;
+
+        int rows;
+        int cols;
+        boolean[] obstacles;
+        int[] componentIndex;
+        // Record written so far, every value takes at most Varint.MAX_BYTES bytes
+        byte[] bytes = new byte[64];
+        int size;
+
+        Scanner(String text) {
+            this.text = text;
+        }
+
+        CompiledProblem compile() {
+            skipWhitespace();
+            int start = position;
+
+            rows = number();
+            expect(',');
+            cols = number();
+
+            if (rows == 0 || cols == 0 || (long) rows * cols > MAX_CELLS) {
+                throw new GridFormatException("A grid must have between 1 and " + MAX_CELLS + " cells", start);
+            }
+
+            write(rows);
+            write(cols);
+
+            obstacles = new boolean[rows * cols];
+            componentIndex = new int[rows * cols];
+            Arrays.fill(componentIndex, -1);
+
+            expect(';');
+            int jarvisCell = cell();
+            write(jarvisCell);
+            expect(';');
+            int flameCell = cell();
+            write(flameCell);
+            expect(';');
+            int[] componentCells = list(false, jarvisCell, flameCell);
+            expect(';');
+            int[] poisonCells = list(true, jarvisCell, flameCell);
+
+            skipWhitespace();
+
+            if (position != text.length()) {
+                throw new GridFormatException("Expected the end of the grid", position);
+            }
+
+            return new CompiledProblem(ByteBuffer.wrap(Arrays.copyOf(bytes, size)), this, jarvisCell, flameCell,
+                    componentCells, poisonCells);
+        }
+
+        /**
+         * Reads a possibly empty list of positions up to the next ';' or the end of the description and writes its
+         * length and cells to the record
+         *
+         * @return Cells of the list
+         */
+        int[] list(boolean poison, int jarvisCell, int flameCell) {
+            // The count is only known at the end of the list, its bytes are reserved and the cells moved afterwards
+            int countPosition = size;
+            int count = 0;
+            int[] cells = new int[8];
+
+            skipWhitespace();
+
+            if (position < text.length() && text.charAt(position) != ';') {
+                do {
+                    skipWhitespace();
+                    int start = position;
+                    int cell = cell();
+
+                    if (poison) {
+                        if (cell == jarvisCell || cell == flameCell || componentIndex[cell] != -1) {
+                            throw new GridFormatException("Poison cell on jarvis, the flame or a component", start);
+                        }
+
+                        obstacles[cell] = true;
+                    } else {
+                        if (componentIndex[cell] != -1) {
+                            throw new GridFormatException("Two components on the same cell", start);
+                        }
+
+                        componentIndex[cell] = count;
+                    }
+
+                    write(cell);
+
+                    if (count == cells.length) {
+                        cells = Arrays.copyOf(cells, count << 1);
+                    }
+
+                    cells[count] = cell;
+                    count += 1;
+                } while (accept(','));
+            }
+
+            int countSize = Varint.size(count);
+
+            reserve(countSize);
+            System.arraycopy(bytes, countPosition, bytes, countPosition + countSize, size - countPosition);
+            Varint.write(bytes, countPosition, count);
+            size += countSize;
+
+            return Arrays.copyOf(cells, count);
+        }
+
+        void write(int value) {
+            reserve(Varint.MAX_BYTES);
+            size = Varint.write(bytes, size, value);
+        }
+
+        void reserve(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + length));
+            }
+        }
+
+        int cell() {
+            skipWhitespace();
+            int start = position;
+
+            int row = number();
+            expect(',');
+            int col = number();
+
+            if (row >= rows || col >= cols) {
+                throw new GridFormatException("Position (" + row + ", " + col + ") is outside of the " + rows + "x"
+                        + cols + " grid", start);
+            }
+
+            return row * cols + col;
+        }
+
+        int number() {
+            skipWhitespace();
+            int start = position;
+            long value = 0;
+
+            while (position < text.length() && '0' <= text.charAt(position) && text.charAt(position) <= '9') {
+                value = value * 10 + (text.charAt(position) - '0');
+                position += 1;
+
+                if (value > Integer.MAX_VALUE) {
+                    throw new GridFormatException("Number too large", start);
+                }
+            }
+
+            if (position == start) {
+                throw new GridFormatException("Expected a number", start);
+            }
+
+            return (int) value;
+        }
+
+        void expect(char separator) {
+            if (!accept(separator)) {
+                throw new GridFormatException("Expected '" + separator + "'", position);
+            }
+        }
+
+        boolean accept(char separator) {
+            skipWhitespace();
+
+            if (position < text.length() && text.charAt(position) == separator) {
+                position += 1;
+                return true;
+            }
+
+            return false;
+        }
+
+        void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position += 1;
+            }
+        }
+    }
+}
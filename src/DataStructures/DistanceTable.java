@@ -0,0 +1,103 @@
+package DataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Shortest path distances over the passable cells of a grid from a fixed list of source cells, computed once by one
+ * breadth first search per source.
+ * Distances are stored in a single short array, row s holds the distance of every cell to source s, so a lookup is a
+ * single array read.
+ * Moves are symmetric, the distance from a source to a cell is also the distance from the cell to the source.
+ */
+public class DistanceTable {
+    // Distance of a cell that can not reach the source, large enough to dominate any real distance and small enough
+    // to be summed over every source without overflowing an int
+    public static final short UNREACHABLE = Short.MAX_VALUE;
+
+    public final int rows;
+    public final int cols;
+    public final int sources;
+
+    private final int[] sourceCells;
+    private final short[] distances;
+
+    /**
+     * @param rows Rows of the grid
+     * @param cols Columns of the grid
+     * @param blocked Cells that can not be entered, indexed by row * cols + col
+     * @param sourceCells Cells the distances are measured from
+     */
+    public DistanceTable(int rows, int cols, boolean[] blocked, int[] sourceCells) {
+        if ((long) rows * cols > UNREACHABLE) {
+            throw new IllegalArgumentException("Grids with more than " + UNREACHABLE + " cells are not supported");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.sources = sourceCells.length;
+        this.sourceCells = sourceCells.clone();
+
+        int cells = rows * cols;
+        distances = new short[sources * cells];
+        Arrays.fill(distances, UNREACHABLE);
+
+        int[] queue = new int[cells];
+
+        for (int source = 0; source < sources; ++source) {
+            breadthFirst(source * cells, sourceCells[source], blocked, queue);
+        }
+    }
+
+    private void breadthFirst(int offset, int start, boolean[] blocked, int[] queue) {
+        int head = 0;
+        int tail = 0;
+
+        distances[offset + start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int row = cell / cols;
+            int col = cell % cols;
+            short next = (short) (distances[offset + cell] + 1);
+
+            if (row > 0) {
+                tail = visit(offset, cell - cols, next, blocked, queue, tail);
+            }
+            if (row + 1 < rows) {
+                tail = visit(offset, cell + cols, next, blocked, queue, tail);
+            }
+            if (col > 0) {
+                tail = visit(offset, cell - 1, next, blocked, queue, tail);
+            }
+            if (col + 1 < cols) {
+                tail = visit(offset, cell + 1, next, blocked, queue, tail);
+            }
+        }
+    }
+
+    private int visit(int offset, int cell, short distance, boolean[] blocked, int[] queue, int tail) {
+        if (blocked[cell] || distances[offset + cell] != UNREACHABLE) {
+            return tail;
+        }
+
+        distances[offset + cell] = distance;
+        queue[tail] = cell;
+
+        return tail + 1;
+    }
+
+    /**
+     * @return Number of moves between a source and a cell, UNREACHABLE if the cell is blocked or cut off
+     */
+    public int distance(int source, int cell) {
+        return distances[source * rows * cols + cell];
+    }
+
+    /**
+     * @return Number of moves between two sources
+     */
+    public int between(int source, int other) {
+        return distance(source, sourceCells[other]);
+    }
+}
@@ -0,0 +1,217 @@
+package DataStructures;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binary file of compiled problems, the compact replacement of a text file with one grid description per line.
+ * Layout: the magic bytes "OLYG", a version byte, then every problem as a varint length followed by the record of
+ * the CompiledProblem (see CompiledProblem for the record layout).
+ * The file is memory mapped in windows of up to WINDOW bytes and iterating it hands out CompiledProblem views that
+ * wrap their record inside the mapping, so reading a problem neither copies its bytes nor allocates a String.
+ */
+public class GridCorpus implements Iterable<CompiledProblem>, AutoCloseable {
+    public static final byte VERSION = 1;
+    private static final byte[] MAGIC = {'O', 'L', 'Y', 'G'};
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+    // Largest part of the file mapped at once, a single mapping can not exceed Integer.MAX_VALUE bytes
+    private static final int WINDOW = 1 << 30;
+
+    private final FileChannel channel;
+    // Size of the file in bytes
+    public final long size;
+
+    private GridCorpus(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+
+        for (int i = 0; i < MAGIC.length; ++i) {
+            if (header.position() <= i || header.get(i) != MAGIC[i]) {
+                throw new GridFormatException("Not a grid corpus", i);
+            }
+        }
+
+        if (header.position() < HEADER_SIZE || header.get(MAGIC.length) != VERSION) {
+            throw new GridFormatException("Unsupported grid corpus version", MAGIC.length);
+        }
+    }
+
+    /**
+     * Method that opens a corpus for reading, the file is closed by close()
+     *
+     * @return GridCorpus
+     * @throws GridFormatException if the file is not a corpus of a supported version
+     */
+    public static GridCorpus open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            return new GridCorpus(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Method that converts a text file with one grid description per line into a corpus, blank lines are skipped
+     *
+     * @param text Text file in the format of Olympics.genGrid
+     * @param corpus Binary file to create or replace
+     * @return long the number of converted problems
+     * @throws GridFormatException if a line is malformed, the offset is the character of the text file, counting one
+     *                             character per line break
+     */
+    public static long convert(Path text, Path corpus) throws IOException {
+        long problems = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.UTF_8);
+             OutputStream output = new BufferedOutputStream(Files.newOutputStream(corpus))) {
+            output.write(MAGIC);
+            output.write(VERSION);
+
+            byte[] length = new byte[Varint.MAX_BYTES];
+            byte[] bytes = new byte[256];
+            long lineStart = 0;
+            long lineNumber = 1;
+
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    CompiledProblem problem;
+
+                    try {
+                        problem = CompiledProblem.compile(line);
+                    } catch (GridFormatException e) {
+                        throw new GridFormatException(e.reason + " on line " + lineNumber, lineStart + e.offset);
+                    }
+
+                    ByteBuffer record = problem.record();
+
+                    if (record.remaining() > bytes.length) {
+                        bytes = new byte[record.remaining()];
+                    }
+
+                    int recordSize = record.remaining();
+                    record.get(bytes, 0, recordSize);
+
+                    output.write(length, 0, Varint.write(length, 0, recordSize));
+                    output.write(bytes, 0, recordSize);
+                    problems += 1;
+                }
+
+                lineStart += line.length() + 1;
+                lineNumber += 1;
+            }
+        }
+
+        return problems;
+    }
+
+    /**
+     * @return Iterator over the problems of the corpus in file order, every call starts again at the first problem
+     */
+    @Override
+    public Iterator<CompiledProblem> iterator() {
+        return new Cursor();
+    }
+
+    public Stream<CompiledProblem> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Closes the file, problems already handed out stay readable as long as they are referenced
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private final class Cursor implements Iterator<CompiledProblem> {
+        MappedByteBuffer window;
+        // Offset of the window in the file and position of the next problem in the window
+        long windowStart;
+        int position;
+
+        Cursor() {
+            map(HEADER_SIZE);
+        }
+
+        private void map(long offset) {
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW, size - offset));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            windowStart = offset;
+            position = 0;
+        }
+
+        private boolean windowEndsBeforeFile() {
+            return windowStart + window.limit() < size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return windowStart + position < size;
+        }
+
+        @Override
+        public CompiledProblem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (window.limit() - position < Varint.MAX_BYTES && windowEndsBeforeFile()) {
+                map(windowStart + position);
+            }
+
+            int length = Varint.read(window, position, windowStart);
+            int start = position + Varint.size(length);
+
+            if (length > WINDOW - Varint.MAX_BYTES) {
+                throw new GridFormatException("Record too large", windowStart + position);
+            }
+
+            if (start + length > window.limit()) {
+                if (!windowEndsBeforeFile()) {
+                    throw new GridFormatException("Truncated record", windowStart + position);
+                }
+
+                map(windowStart + position);
+                start = Varint.size(length);
+            }
+
+            CompiledProblem problem = new CompiledProblem(window.slice(start, length), windowStart + start);
+            position = start + length;
+
+            return problem;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package DataStructures;
+
+/**
+ * Thrown when a grid description or a binary grid record can not be compiled, the offset points at the character of
+ * the description or the byte of the corpus file where the problem was found
+ */
+public class GridFormatException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    // What is wrong, the message without the offset
+    public final String reason;
+    public final long offset;
+
+    public GridFormatException(String reason, long offset) {
+        super(reason + " at offset " + offset);
+
+        this.reason = reason;
+        this.offset = offset;
+    }
+}
@@ -0,0 +1,144 @@
+package DataStructures;
+
+import DataStructures.ADTs.Frontier;
+
+/**
+ * Binary max heap on the node evaluation that keeps at most one node per state.
+ * Every queued state knows its slot in the heap, so when the search finds a better path to a state that is still
+ * queued the node is replaced and sifted up in place (decrease-key, as costs are rewards the evaluation increases).
+ * States that were already removed from the heap are never queued again, which keeps the search optimal as long as
+ * evaluations never increase along a path (see Olympics.rewardBound and the consistent estimate of Olympics.estimate):
+ * a state then leaves the heap with its best evaluation.
+ */
+public class IndexedPriorityFrontier implements Frontier {
+    // Slot value of a state that left the heap
+    private static final int REMOVED = -1;
+    // Slot value returned for a state that never entered the heap
+    private static final int ABSENT = -2;
+
+    private Node[] heap;
+    private int size;
+    private final LongIntHashMap slots;
+
+    public IndexedPriorityFrontier() {
+        this(16);
+    }
+
+    public IndexedPriorityFrontier(int expectedStates) {
+        heap = new Node[Math.max(expectedStates, 16)];
+        slots = new LongIntHashMap(expectedStates);
+    }
+
+    @Override
+    public boolean decreasesKey() {
+        return true;
+    }
+
+    @Override
+    public boolean improves(long state, int evaluation) {
+        int slot = slots.get(state, ABSENT);
+
+        return slot >= 0 && heap[slot].evaluation < evaluation;
+    }
+
+    /**
+     * Queues a node, if its state is already queued the node replaces the queued one only if it has a higher
+     * evaluation, if its state was already removed the node is dropped
+     */
+    @Override
+    public void add(Node node) {
+        int slot = slots.get(node.packedState, ABSENT);
+
+        if (slot == REMOVED) {
+            return;
+        }
+
+        if (slot >= 0) {
+            if (heap[slot].evaluation < node.evaluation) {
+                heap[slot] = node;
+                siftUp(slot);
+            }
+
+            return;
+        }
+
+        if (size == heap.length) {
+            Node[] grown = new Node[heap.length << 1];
+            System.arraycopy(heap, 0, grown, 0, size);
+            heap = grown;
+        }
+
+        heap[size] = node;
+        size += 1;
+        siftUp(size - 1);
+    }
+
+    @Override
+    public Node remove() {
+        Node top = heap[0];
+        slots.put(top.packedState, REMOVED);
+
+        size -= 1;
+        if (size > 0) {
+            heap[0] = heap[size];
+            siftDown(0);
+        }
+        heap[size] = null;
+
+        return top;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void place(Node node, int slot) {
+        heap[slot] = node;
+        slots.put(node.packedState, slot);
+    }
+
+    private void siftUp(int slot) {
+        Node node = heap[slot];
+
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+
+            if (heap[parent].evaluation >= node.evaluation) {
+                break;
+            }
+
+            place(heap[parent], slot);
+            slot = parent;
+        }
+
+        place(node, slot);
+    }
+
+    private void siftDown(int slot) {
+        Node node = heap[slot];
+        int half = size >>> 1;
+
+        while (slot < half) {
+            int child = 2 * slot + 1;
+
+            if (child + 1 < size && heap[child + 1].evaluation > heap[child].evaluation) {
+                child += 1;
+            }
+
+            if (node.evaluation >= heap[child].evaluation) {
+                break;
+            }
+
+            place(heap[child], slot);
+            slot = child;
+        }
+
+        place(node, slot);
+    }
+}
@@ -0,0 +1,172 @@
+package DataStructures;
+
+import java.util.Arrays;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Open addressing hash set of primitive longs used as the closed list of the search strategies.
+ * Collisions are resolved by linear probing over a power of two table, the table doubles once it is half full.
+ * The value -1 (PackedState.NONE) marks an empty slot and therefore can not be stored in the set.
+ * Keys are hashed by mix unless another hash function is passed, callers that already know the hash of a key, e.g. an
+ * incremental Zobrist hash, can pass it along with the key instead of having it recomputed.
+ */
+public class LongHashSet {
+    private static final long EMPTY = PackedState.NONE;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Hash function of the keys, only called for keys added without their hash and when the table grows
+    private final LongToIntFunction hasher;
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Number of keys the set should hold before it has to grow
+     */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, LongHashSet::mix);
+    }
+
+    /**
+     * @param expectedSize Number of keys the set should hold before it has to grow
+     * @param hasher Hash function of the keys, the hashes passed to add and contains have to agree with it
+     */
+    public LongHashSet(int expectedSize, LongToIntFunction hasher) {
+        this.hasher = hasher;
+
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        long wanted = Math.max((long) expectedSize * 2, MIN_CAPACITY);
+
+        if (wanted >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    /**
+     * Finalizer of MurmurHash3, spreads the structured bits of a packed state over the whole table
+     */
+    public static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+
+        return (int) key;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 2;
+    }
+
+    /**
+     * Method that adds a key to the set
+     *
+     * @param key Key to be added, must not be -1
+     * @return true if the key was not in the set before
+     */
+    public boolean add(long key) {
+        return add(key, hasher.applyAsInt(key));
+    }
+
+    /**
+     * Same as add(long) with the hash of the key already computed
+     */
+    public boolean add(long key, int hash) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("-1 is reserved for empty slots");
+        }
+
+        int slot = hash & mask;
+
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        size += 1;
+
+        if (size >= threshold) {
+            grow();
+        }
+
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return contains(key, hasher.applyAsInt(key));
+    }
+
+    public boolean contains(long key, int hash) {
+        int slot = hash & mask;
+
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("LongHashSet can not grow beyond " + MAX_CAPACITY + " slots");
+        }
+
+        long[] oldKeys = keys;
+        allocate(keys.length << 1);
+
+        for (long key : oldKeys) {
+            if (key == EMPTY) {
+                continue;
+            }
+
+            int slot = hasher.applyAsInt(key) & mask;
+
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+}
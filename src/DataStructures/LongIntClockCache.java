@@ -0,0 +1,178 @@
+package DataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Bounded, thread safe cache from primitive longs to ints.
+ * Keys are hashed into sets of a few slots, a full set evicts with the clock algorithm: the hand of the set skips and
+ * clears slots that were read since it last passed them and evicts the first slot that was not, so entries that keep
+ * being hit survive.
+ * Sets are grouped into independently locked segments picked by the high bits of the hash, like the stripes of
+ * StripedLongHashSet.
+ * The key -1 (PackedState.NONE) is reserved for empty slots.
+ */
+public class LongIntClockCache {
+    // Value returned by get for a key that is not cached
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final long EMPTY = PackedState.NONE;
+    private static final int WAYS = 4;
+
+    private final Segment[] segments;
+    private final int shift;
+
+    private static final class Segment {
+        final long[] keys;
+        final int[] values;
+        final boolean[] referenced;
+        // Clock hand of every set, the next way the set looks at when it has to evict
+        final byte[] hands;
+        final int mask;
+        long hits;
+        long misses;
+        long evictions;
+
+        Segment(int sets) {
+            keys = new long[sets * WAYS];
+            values = new int[sets * WAYS];
+            referenced = new boolean[sets * WAYS];
+            hands = new byte[sets];
+            mask = sets - 1;
+
+            Arrays.fill(keys, EMPTY);
+        }
+
+        int get(long key, int hash) {
+            int first = (hash & mask) * WAYS;
+
+            for (int slot = first; slot < first + WAYS; ++slot) {
+                if (keys[slot] == key) {
+                    referenced[slot] = true;
+                    hits += 1;
+
+                    return values[slot];
+                }
+            }
+
+            misses += 1;
+
+            return MISSING;
+        }
+
+        void put(long key, int value, int hash) {
+            int set = hash & mask;
+            int first = set * WAYS;
+
+            for (int slot = first; slot < first + WAYS; ++slot) {
+                if (keys[slot] == key || keys[slot] == EMPTY) {
+                    keys[slot] = key;
+                    values[slot] = value;
+
+                    return;
+                }
+            }
+
+            int hand = hands[set];
+
+            while (referenced[first + hand]) {
+                referenced[first + hand] = false;
+                hand = (hand + 1) % WAYS;
+            }
+
+            keys[first + hand] = key;
+            values[first + hand] = value;
+            hands[set] = (byte) ((hand + 1) % WAYS);
+            evictions += 1;
+        }
+    }
+
+    /**
+     * @param segments Number of independently locked segments, rounded up to a power of two
+     * @param capacity Number of entries the whole cache can hold, rounded up so every segment gets a power of two sets
+     */
+    public LongIntClockCache(int segments, int capacity) {
+        int count = Integer.highestOneBit(Math.max(1, segments - 1)) << 1;
+        int sets = Math.max(1, capacity / WAYS / count);
+
+        sets = Integer.highestOneBit(Math.max(1, sets - 1)) << 1;
+
+        this.segments = new Segment[count];
+        shift = 32 - Integer.numberOfTrailingZeros(count);
+
+        for (int i = 0; i < count; ++i) {
+            this.segments[i] = new Segment(sets);
+        }
+    }
+
+    private Segment segmentOf(int hash) {
+        return shift == 32 ? segments[0] : segments[hash >>> shift];
+    }
+
+    /**
+     * @return The cached value of the key or MISSING
+     */
+    public int get(long key) {
+        int hash = LongHashSet.mix(key);
+        Segment segment = segmentOf(hash);
+
+        synchronized (segment) {
+            return segment.get(key, hash);
+        }
+    }
+
+    /**
+     * Caches a value, evicting another key of the same set if the set is full
+     */
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("-1 is reserved for empty slots");
+        }
+
+        int hash = LongHashSet.mix(key);
+        Segment segment = segmentOf(hash);
+
+        synchronized (segment) {
+            segment.put(key, value, hash);
+        }
+    }
+
+    public int capacity() {
+        return segments.length * segments[0].keys.length;
+    }
+
+    public long hits() {
+        long hits = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                hits += segment.hits;
+            }
+        }
+
+        return hits;
+    }
+
+    public long misses() {
+        long misses = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                misses += segment.misses;
+            }
+        }
+
+        return misses;
+    }
+
+    public long evictions() {
+        long evictions = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                evictions += segment.evictions;
+            }
+        }
+
+        return evictions;
+    }
+}
@@ -0,0 +1,104 @@
+package DataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive longs to ints, same probing scheme as LongHashSet.
+ * Keys can not be removed, callers overwrite the value of a key that is no longer relevant instead.
+ * The key -1 (PackedState.NONE) is reserved for empty slots.
+ */
+public class LongIntHashMap {
+    private static final long EMPTY = PackedState.NONE;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(LongHashSet.tableSizeFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 2;
+    }
+
+    private int slotOf(long key) {
+        int slot = LongHashSet.mix(key) & mask;
+
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * @return The value mapped to the key or defaultValue if the key was never put
+     */
+    public int get(long key, int defaultValue) {
+        int slot = slotOf(key);
+
+        return keys[slot] == EMPTY ? defaultValue : values[slot];
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("-1 is reserved for empty slots");
+        }
+
+        int slot = slotOf(key);
+
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size += 1;
+        }
+
+        values[slot] = value;
+
+        if (size >= threshold) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("LongIntHashMap can not grow beyond " + MAX_CAPACITY + " slots");
+        }
+
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+
+            int slot = slotOf(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+}
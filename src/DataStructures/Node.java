@@ -2,48 +2,85 @@ package DataStructures;
 
 import DataStructures.ADTs.State;
 
-import java.util.Objects;
-
+/**
+ * Node of a search tree. Nodes have identity semantics: two nodes are only equal if they are the same object, states
+ * are compared through their packed state.
+ */
 public class Node implements Comparable<Node>{
+    // Operator of a root node
+    public static final byte NO_OPERATOR = -1;
+
     public State state;
+    public long packedState;
+    // Hash of the packed state, see GenericSearchProblem.hash, only set by the engines that use it
+    public int hash;
     public Node parent;
-    public String operator;
+    // Slot of the parent in the NodeArena of the search when the parent is not kept as an object
+    public int parentSlot = NodeArena.NO_PARENT;
+    // Opcode of the operator that produced the node, see GenericSearchProblem.operators
+    public byte operator;
     public int depth;
     public int pathCost;
+    // Value used to order the node inside a priority frontier, see the evaluators of Olympics
+    public int evaluation;
 
     public Node(State state) {
         this.state = state;
 
         parent = null;
-        operator = null;
+        operator = NO_OPERATOR;
         depth = 0;
         pathCost = 0;
+        evaluation = 0;
     }
 
-    public Node(State state, Node parent, String operator, int pathCost) {
-        this.state = state;
+    public Node(long packedState) {
+        this.packedState = packedState;
+
+        parent = null;
+        operator = NO_OPERATOR;
+        depth = 0;
+        pathCost = 0;
+        evaluation = 0;
+    }
+
+    public Node(long packedState, Node parent, int operator, int pathCost) {
+        this(packedState, parent, operator, pathCost, pathCost);
+    }
+
+    public Node(long packedState, Node parent, int operator, int pathCost, int evaluation) {
+        this.packedState = packedState;
         this.parent = parent;
-        this.operator = operator;
+        this.operator = (byte) operator;
         this.pathCost = pathCost;
+        this.evaluation = evaluation;
 
         depth = parent.depth + 1;
     }
 
-    @Override
-    public int compareTo(Node node) {
-        return pathCost - node.pathCost;
+    public Node(long packedState, int parentSlot, int operator, int depth, int pathCost, int evaluation) {
+        this.packedState = packedState;
+        this.parentSlot = parentSlot;
+        this.operator = (byte) operator;
+        this.depth = depth;
+        this.pathCost = pathCost;
+        this.evaluation = evaluation;
+
+        parent = null;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Node node = (Node) o;
-        return depth == node.depth && pathCost == node.pathCost && Objects.equals(state, node.state) && Objects.equals(parent, node.parent) && Objects.equals(operator, node.operator);
+    public Node(State state, Node parent, int operator, int pathCost) {
+        this.state = state;
+        this.parent = parent;
+        this.operator = (byte) operator;
+        this.pathCost = pathCost;
+        this.evaluation = pathCost;
+
+        depth = parent.depth + 1;
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(state, parent, operator, depth, pathCost);
+    public int compareTo(Node node) {
+        return evaluation - node.evaluation;
     }
 }
@@ -0,0 +1,108 @@
+package DataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Store of search nodes as parallel primitive arrays instead of Node objects, a node is only its slot in the arena.
+ * Slots are handed out in insertion order and the arrays grow in fixed size chunks, so growing never copies the nodes
+ * already stored. clear() only resets the size, the chunks are kept and reused by the next search.
+ * A stored node costs 21 bytes: packed state, parent slot, opcode, path cost and evaluation.
+ */
+public class NodeArena {
+    // Parent slot of a root node
+    public static final int NO_PARENT = -1;
+
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private long[][] states = new long[4][];
+    private int[][] parents = new int[4][];
+    private byte[][] operators = new byte[4][];
+    private int[][] pathCosts = new int[4][];
+    private int[][] evaluations = new int[4][];
+    // Number of allocated chunks, chunks beyond the current size are left over from previous searches
+    private int chunks;
+    private int size;
+
+    /**
+     * Method that stores a node at the next free slot
+     *
+     * @param parent Slot of the parent or NO_PARENT
+     * @param operator Opcode of the operator that produced the node
+     * @return int the slot of the node
+     */
+    public int add(long packedState, int parent, int operator, int pathCost, int evaluation) {
+        int chunk = size >>> CHUNK_SHIFT;
+        int offset = size & CHUNK_MASK;
+
+        if (chunk == chunks) {
+            grow();
+        }
+
+        states[chunk][offset] = packedState;
+        parents[chunk][offset] = parent;
+        operators[chunk][offset] = (byte) operator;
+        pathCosts[chunk][offset] = pathCost;
+        evaluations[chunk][offset] = evaluation;
+
+        return size++;
+    }
+
+    private void grow() {
+        if (chunks == states.length) {
+            int length = chunks << 1;
+
+            states = Arrays.copyOf(states, length);
+            parents = Arrays.copyOf(parents, length);
+            operators = Arrays.copyOf(operators, length);
+            pathCosts = Arrays.copyOf(pathCosts, length);
+            evaluations = Arrays.copyOf(evaluations, length);
+        }
+
+        states[chunks] = new long[CHUNK_SIZE];
+        parents[chunks] = new int[CHUNK_SIZE];
+        operators[chunks] = new byte[CHUNK_SIZE];
+        pathCosts[chunks] = new int[CHUNK_SIZE];
+        evaluations[chunks] = new int[CHUNK_SIZE];
+        chunks += 1;
+    }
+
+    public long packedState(int slot) {
+        return states[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    public int parent(int slot) {
+        return parents[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    public int operator(int slot) {
+        return operators[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    public int pathCost(int slot) {
+        return pathCosts[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    public int evaluation(int slot) {
+        return evaluations[slot >>> CHUNK_SHIFT][slot & CHUNK_MASK];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of nodes the allocated chunks can hold without growing
+     */
+    public int capacity() {
+        return chunks << CHUNK_SHIFT;
+    }
+
+    /**
+     * Forgets every stored node, the allocated chunks are kept for the next search
+     */
+    public void clear() {
+        size = 0;
+    }
+}
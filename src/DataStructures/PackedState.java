@@ -0,0 +1,67 @@
+package DataStructures;
+
+/**
+ * Helper that packs an Olympics state into a single long so the search engines never have to allocate a state object
+ * per expansion.
+ * Layout (most significant bit first):
+ * Bit 63: Always zero, so a packed state is never equal to NONE
+ * Bits 62..33: Cell index of jarvis (row * cols + col)
+ * Bit 32: Flame lighten flag
+ * Bits 31..0: Bitmask of remaining components, bit i is set while component i was not picked
+ */
+public final class PackedState {
+    public static final long NONE = -1L;
+    public static final int MAX_COMPONENTS = 32;
+
+    private static final int LIT_SHIFT = 32;
+    private static final int CELL_SHIFT = 33;
+    private static final long COMPONENTS_MASK = 0xFFFFFFFFL;
+    private static final long LIT_MASK = 1L << LIT_SHIFT;
+
+    private PackedState() {
+
+    }
+
+    public static long pack(int cell, long components, boolean isLighten) {
+        return ((long) cell << CELL_SHIFT) | (isLighten ? LIT_MASK : 0L) | (components & COMPONENTS_MASK);
+    }
+
+    public static int cell(long state) {
+        return (int) (state >>> CELL_SHIFT);
+    }
+
+    public static long components(long state) {
+        return state & COMPONENTS_MASK;
+    }
+
+    public static boolean isLighten(long state) {
+        return (state & LIT_MASK) != 0;
+    }
+
+    public static boolean hasComponent(long state, int component) {
+        return (state & (1L << component)) != 0;
+    }
+
+    /**
+     * Moves jarvis to another cell, a movement always produces a state where the flame is not lighten
+     */
+    public static long withCell(long state, int cell) {
+        return ((long) cell << CELL_SHIFT) | (state & COMPONENTS_MASK);
+    }
+
+    public static long withoutComponent(long state, int component) {
+        return state & ~(1L << component);
+    }
+
+    public static long withComponent(long state, int component) {
+        return state | (1L << component);
+    }
+
+    public static long lighten(long state) {
+        return state | LIT_MASK;
+    }
+
+    public static long unlighten(long state) {
+        return state & ~LIT_MASK;
+    }
+}
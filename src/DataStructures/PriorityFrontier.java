@@ -0,0 +1,33 @@
+package DataStructures;
+
+import DataStructures.ADTs.Frontier;
+
+import java.util.Collections;
+import java.util.PriorityQueue;
+
+/**
+ * Frontier that always removes the node with the highest evaluation, used by uniform cost, greedy and A* search
+ */
+public class PriorityFrontier implements Frontier {
+    private final PriorityQueue<Node> queue = new PriorityQueue<>(Collections.reverseOrder());
+
+    @Override
+    public void add(Node node) {
+        queue.add(node);
+    }
+
+    @Override
+    public Node remove() {
+        return queue.remove();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+}
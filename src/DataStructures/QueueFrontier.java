@@ -0,0 +1,32 @@
+package DataStructures;
+
+import DataStructures.ADTs.Frontier;
+
+import java.util.ArrayDeque;
+
+/**
+ * First in first out frontier used by breadth first search
+ */
+public class QueueFrontier implements Frontier {
+    private final ArrayDeque<Node> queue = new ArrayDeque<>();
+
+    @Override
+    public void add(Node node) {
+        queue.addLast(node);
+    }
+
+    @Override
+    public Node remove() {
+        return queue.removeFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,32 @@
+package DataStructures;
+
+import DataStructures.ADTs.Frontier;
+
+import java.util.ArrayDeque;
+
+/**
+ * Last in first out frontier used by depth first search
+ */
+public class StackFrontier implements Frontier {
+    private final ArrayDeque<Node> stack = new ArrayDeque<>();
+
+    @Override
+    public void add(Node node) {
+        stack.push(node);
+    }
+
+    @Override
+    public Node remove() {
+        return stack.pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return stack.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return stack.size();
+    }
+}
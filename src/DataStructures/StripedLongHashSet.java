@@ -0,0 +1,61 @@
+package DataStructures;
+
+/**
+ * Thread safe set of primitive longs made of independently locked LongHashSet stripes.
+ * The stripe of a key is picked by the high bits of its hash, so threads adding different keys rarely wait on
+ * each other.
+ */
+public class StripedLongHashSet {
+    private final LongHashSet[] stripes;
+    private final int shift;
+
+    /**
+     * @param stripes Number of stripes, rounded up to a power of two
+     * @param expectedSize Number of keys the whole set should hold before any stripe has to grow
+     */
+    public StripedLongHashSet(int stripes, int expectedSize) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+
+        this.stripes = new LongHashSet[count];
+        shift = 32 - Integer.numberOfTrailingZeros(count);
+
+        for (int i = 0; i < count; ++i) {
+            this.stripes[i] = new LongHashSet(expectedSize / count);
+        }
+    }
+
+    private LongHashSet stripeOf(long key) {
+        return shift == 32 ? stripes[0] : stripes[LongHashSet.mix(key) >>> shift];
+    }
+
+    /**
+     * @return true if the key was not in the set before
+     */
+    public boolean add(long key) {
+        LongHashSet stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            return stripe.add(key);
+        }
+    }
+
+    public boolean contains(long key) {
+        LongHashSet stripe = stripeOf(key);
+
+        synchronized (stripe) {
+            return stripe.contains(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (LongHashSet stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+}
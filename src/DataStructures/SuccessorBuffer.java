@@ -0,0 +1,38 @@
+package DataStructures;
+
+/**
+ * Reusable buffer the search problem writes the successors of an expanded state into.
+ * The buffer is owned by the caller and cleared before every expansion, so generating successors never allocates.
+ */
+public class SuccessorBuffer {
+    public final long[] states;
+    // Index of the operator in GenericSearchProblem.operators that produced the successor with the same index
+    public final int[] operators;
+    // Hash of the successor with the same index, only written by GenericSearchProblem.successors(long, int, buffer)
+    public final int[] hashes;
+    public int size;
+
+    public SuccessorBuffer(int capacity) {
+        states = new long[capacity];
+        operators = new int[capacity];
+        hashes = new int[capacity];
+        size = 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(long state, int operator) {
+        states[size] = state;
+        operators[size] = operator;
+        size += 1;
+    }
+
+    public void add(long state, int operator, int hash) {
+        states[size] = state;
+        operators[size] = operator;
+        hashes[size] = hash;
+        size += 1;
+    }
+}
@@ -0,0 +1,60 @@
+package DataStructures;
+
+/**
+ * Fixed size, direct mapped table remembering the best score a state was reached with during an iteration of an
+ * iterative deepening search.
+ * A colliding state simply overwrites the slot, so the memory stays bounded and a lost entry only costs a repeated
+ * expansion. Entries are tagged with the iteration they belong to, starting a new iteration invalidates all of them.
+ */
+public class TranspositionTable {
+    private final long[] keys;
+    private final int[] scores;
+    private final int[] stamps;
+    private final int mask;
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+
+        keys = new long[size];
+        scores = new int[size];
+        stamps = new int[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Method that checks if a state was already reached in the same iteration with a score at least as high,
+     * otherwise the state is recorded with the passed score
+     *
+     * @param state Packed state
+     * @param score Higher is better, e.g. the path cost of the node
+     * @param iteration Current iteration, must be positive
+     * @return true if the state can be skipped
+     */
+    public boolean reached(long state, int score, int iteration) {
+        return reached(state, LongHashSet.mix(state), score, iteration);
+    }
+
+    /**
+     * Same as reached(long, int, int) with the hash of the state already computed, e.g. an incremental Zobrist hash
+     */
+    public boolean reached(long state, int hash, int score, int iteration) {
+        int slot = hash & mask;
+
+        if (stamps[slot] == iteration && keys[slot] == state && scores[slot] >= score) {
+            return true;
+        }
+
+        keys[slot] = state;
+        scores[slot] = score;
+        stamps[slot] = iteration;
+
+        return false;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+}
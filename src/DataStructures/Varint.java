@@ -0,0 +1,78 @@
+package DataStructures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Helper for unsigned LEB128 varints, the integer encoding of the binary grid format: 7 bits per byte, least
+ * significant group first, the high bit of a byte is set when another byte follows.
+ * Values below 128 take a single byte, so the cells of grids up to 11x11 and most counts take one byte and no value
+ * of the format takes more than three.
+ */
+public final class Varint {
+    // Longest encoding of a non negative int
+    public static final int MAX_BYTES = 5;
+
+    private Varint() {
+
+    }
+
+    /**
+     * @return Number of bytes of the encoding of the value
+     */
+    public static int size(int value) {
+        int size = 1;
+
+        while ((value >>>= 7) != 0) {
+            size += 1;
+        }
+
+        return size;
+    }
+
+    /**
+     * Method that encodes a non negative value at a position of an array
+     *
+     * @return int the position after the encoding
+     */
+    public static int write(byte[] bytes, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        bytes[position++] = (byte) value;
+
+        return position;
+    }
+
+    /**
+     * Method that decodes the value at a position of a buffer, the position of the buffer is not changed
+     *
+     * @param base Offset of the buffer in its file or text, only used for error reports
+     * @return int
+     * @throws GridFormatException if the encoding runs past the limit of the buffer or does not fit an int
+     */
+    public static int read(ByteBuffer buffer, int position, long base) {
+        int value = 0;
+
+        for (int shift = 0; shift < 7 * MAX_BYTES; shift += 7) {
+            if (position >= buffer.limit()) {
+                throw new GridFormatException("Truncated varint", base + position);
+            }
+
+            byte current = buffer.get(position++);
+            value |= (current & 0x7F) << shift;
+
+            if (current >= 0) {
+                // The fifth byte only has room for the bits 28 to 30
+                if (shift == 28 && current > 7) {
+                    break;
+                }
+
+                return value;
+            }
+        }
+
+        throw new GridFormatException("Varint does not fit a non negative int", base + position);
+    }
+}
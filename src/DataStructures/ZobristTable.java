@@ -0,0 +1,74 @@
+package DataStructures;
+
+import java.util.Random;
+
+/**
+ * Zobrist hashing of packed states: every cell, every component and the flame flag get a random key and the hash of
+ * a state is the xor of the keys of its cell, its remaining components and its flame flag.
+ * Since xor is its own inverse, the hash of a successor is derived from the hash of its parent by xoring out what the
+ * operator removed and xoring in what it added, a move touches two cell keys and a pick or a light a single key.
+ * The keys only depend on the seed, so the same grid always hashes the same way.
+ */
+public class ZobristTable {
+    private final int[] cellKeys;
+    private final int[] componentKeys;
+    private final int litKey;
+
+    /**
+     * @param cells Number of cells of the grid
+     * @param components Number of components of the grid, at most PackedState.MAX_COMPONENTS
+     * @param seed Seed of the random keys
+     */
+    public ZobristTable(int cells, int components, long seed) {
+        Random generator = new Random(seed);
+
+        cellKeys = new int[cells];
+        componentKeys = new int[components];
+
+        for (int i = 0; i < cells; ++i) {
+            cellKeys[i] = generator.nextInt();
+        }
+
+        for (int i = 0; i < components; ++i) {
+            componentKeys[i] = generator.nextInt();
+        }
+
+        litKey = generator.nextInt();
+    }
+
+    /**
+     * Method that hashes a state from scratch, linear in the number of remaining components
+     *
+     * @return int
+     */
+    public int hash(long state) {
+        int hash = cellKeys[PackedState.cell(state)];
+
+        for (long remaining = PackedState.components(state); remaining != 0; remaining &= remaining - 1) {
+            hash ^= componentKeys[Long.numberOfTrailingZeros(remaining)];
+        }
+
+        return PackedState.isLighten(state) ? hash ^ litKey : hash;
+    }
+
+    /**
+     * @return Hash of the state after jarvis moved from one cell to another
+     */
+    public int move(int hash, int from, int to) {
+        return hash ^ cellKeys[from] ^ cellKeys[to];
+    }
+
+    /**
+     * @return Hash of the state after a component was picked or put back
+     */
+    public int toggleComponent(int hash, int component) {
+        return hash ^ componentKeys[component];
+    }
+
+    /**
+     * @return Hash of the state after the flame was lighten or put out
+     */
+    public int toggleLight(int hash) {
+        return hash ^ litKey;
+    }
+}
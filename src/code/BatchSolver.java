@@ -0,0 +1,159 @@
+package code;
+
+import DataStructures.CompiledProblem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Solves many grids concurrently, every grid is solved by a single task on the executor.
+ * By default a ForkJoinPool with one worker per core is used, any ExecutorService can be passed instead
+ * (e.g. Executors.newVirtualThreadPerTaskExecutor() on JDK 21+).
+ */
+public class BatchSolver implements AutoCloseable {
+    public final ExecutorService executor;
+    // Only executors created by the solver are shut down by close()
+    private final boolean ownsExecutor;
+
+    public static class Job {
+        // null for jobs created from a compiled problem, see grid()
+        private final String grid;
+        public final String strategy;
+        // null until the solver compiles the grid
+        public final CompiledProblem problem;
+
+        public Job(String grid, String strategy) {
+            this.grid = grid;
+            this.strategy = strategy;
+            this.problem = null;
+        }
+
+        public Job(CompiledProblem problem, String strategy) {
+            this.grid = null;
+            this.strategy = strategy;
+            this.problem = problem;
+        }
+
+        /**
+         * @return Description of the grid, only rendered on first use for jobs on a problem read from a corpus
+         */
+        public String grid() {
+            return grid != null ? grid : problem.grid();
+        }
+    }
+
+    public static class BatchResult {
+        // In the same order as the submitted jobs
+        public final List<SearchResult> results;
+        public final long wallTimeNanos;
+
+        public BatchResult(List<SearchResult> results, long wallTimeNanos) {
+            this.results = results;
+            this.wallTimeNanos = wallTimeNanos;
+        }
+
+        public double gridsPerSecond() {
+            return wallTimeNanos == 0 ? 0 : results.size() / (wallTimeNanos / 1e9);
+        }
+
+        public long expandedNodes() {
+            long expandedNodes = 0;
+
+            for (SearchResult result : results) {
+                if (result.statistics != null) {
+                    expandedNodes += result.statistics.expandedNodes;
+                }
+            }
+
+            return expandedNodes;
+        }
+
+        public double expandedNodesPerSecond() {
+            return wallTimeNanos == 0 ? 0 : expandedNodes() / (wallTimeNanos / 1e9);
+        }
+    }
+
+    public BatchSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSolver(int parallelism) {
+        this.executor = new ForkJoinPool(parallelism);
+        this.ownsExecutor = true;
+    }
+
+    public BatchSolver(ExecutorService executor) {
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
+    public BatchResult solve(List<Job> jobs) {
+        return solve(jobs, null);
+    }
+
+    public BatchResult solve(Stream<Job> jobs) {
+        return solve(jobs.collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Method that solves every job and waits for all of them, jobs on the same grid share one compiled problem
+     *
+     * @param jobs Grids and strategies to solve
+     * @param onCompleted Called with every job and its result as soon as it is solved, on the worker thread that
+     *                    solved it, may be null
+     * @return BatchResult with the results in submission order
+     * @throws DataStructures.GridFormatException if a grid is malformed, before any job is started
+     */
+    public BatchResult solve(List<Job> jobs, BiConsumer<Job, SearchResult> onCompleted) {
+        long start = System.nanoTime();
+
+        Map<String, CompiledProblem> compiled = new HashMap<>();
+        List<CompiledProblem> problems = new ArrayList<>(jobs.size());
+
+        for (Job job : jobs) {
+            problems.add(job.problem != null ? job.problem : compiled.computeIfAbsent(job.grid, CompiledProblem::compile));
+        }
+
+        List<CompletableFuture<SearchResult>> futures = new ArrayList<>(jobs.size());
+
+        for (int i = 0; i < jobs.size(); ++i) {
+            Job job = jobs.get(i);
+            CompiledProblem problem = problems.get(i);
+
+            CompletableFuture<SearchResult> future =
+                    CompletableFuture.supplyAsync(() -> Olympics.solveWithStatistics(problem, job.strategy, false), executor);
+
+            if (onCompleted != null) {
+                future = future.thenApply(result -> {
+                    onCompleted.accept(job, result);
+                    return result;
+                });
+            }
+
+            futures.add(future);
+        }
+
+        List<SearchResult> results = new ArrayList<>(jobs.size());
+
+        for (CompletableFuture<SearchResult> future : futures) {
+            results.add(future.join());
+        }
+
+        return new BatchResult(results, System.nanoTime() - start);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package code;
+
+import DataStructures.ADTs.Frontier;
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.LongIntHashMap;
+import DataStructures.Node;
+import DataStructures.PackedState;
+import DataStructures.SuccessorBuffer;
+
+import java.util.ArrayList;
+
+/**
+ * Bidirectional search: one half searches forward from the initial state, the other half searches backward from the
+ * goal state over the predecessors of the problem, and the side with the smaller frontier is expanded next.
+ * Every generated node is looked up in the other half, a state reached by both halves joins them into a plan.
+ * The best plan is only returned once no cheaper one can exist: either the evaluation of the next node already
+ * bounds every remaining plan through its half, or the two shallowest queued nodes are too deep to be joined
+ * by a shorter plan.
+ * Both halves measure the cost of a plan by its number of operations, the evaluators have to order nodes by depth
+ * plus a consistent estimate, evaluations being negative costs.
+ */
+public class BidirectionalSearchEngine extends SearchAlgorithm {
+    // Index returned for a state that was never generated by a half
+    private static final int ABSENT = -1;
+
+    public final Frontier forwardFrontier;
+    public final NodeEvaluator forwardEvaluator;
+    public final Frontier backwardFrontier;
+    public final NodeEvaluator backwardEvaluator;
+
+    // Cost and halves of the best plan found so far
+    private int bestCost = Integer.MAX_VALUE;
+    private Node bestForward;
+    private Node bestBackward;
+
+    public BidirectionalSearchEngine(GenericSearchProblem problem, Frontier forwardFrontier, NodeEvaluator forwardEvaluator,
+                                     Frontier backwardFrontier, NodeEvaluator backwardEvaluator) {
+        super(problem);
+
+        this.forwardFrontier = forwardFrontier;
+        this.forwardEvaluator = forwardEvaluator;
+        this.backwardFrontier = backwardFrontier;
+        this.backwardEvaluator = backwardEvaluator;
+    }
+
+    /**
+     * One direction of the search: its frontier plus the best node generated for every state
+     */
+    private static final class Half {
+        final Frontier frontier;
+        final NodeEvaluator evaluator;
+        final boolean backward;
+        // Best node of every generated state, the map points into the list
+        final ArrayList<Node> nodes = new ArrayList<>();
+        final LongIntHashMap index;
+        // Number of queued nodes per depth, the shallowest queued depth bounds the cost of the plans left
+        int[] queuedAtDepth = new int[64];
+        int shallowest;
+
+        Half(Frontier frontier, NodeEvaluator evaluator, boolean backward, int expectedStates) {
+            this.frontier = frontier;
+            this.evaluator = evaluator;
+            this.backward = backward;
+
+            index = new LongIntHashMap(expectedStates);
+        }
+
+        Node get(long state) {
+            int i = index.get(state, ABSENT);
+
+            return i == ABSENT ? null : nodes.get(i);
+        }
+
+        void queue(Node node) {
+            frontier.add(node);
+
+            index.put(node.packedState, nodes.size());
+            nodes.add(node);
+
+            if (node.depth >= queuedAtDepth.length) {
+                int[] grown = new int[Math.max(queuedAtDepth.length << 1, node.depth + 1)];
+                System.arraycopy(queuedAtDepth, 0, grown, 0, queuedAtDepth.length);
+                queuedAtDepth = grown;
+            }
+
+            queuedAtDepth[node.depth] += 1;
+            shallowest = Math.min(shallowest, node.depth);
+        }
+
+        void dequeue(Node node) {
+            queuedAtDepth[node.depth] -= 1;
+        }
+
+        /**
+         * @return Depth of the shallowest queued node, only valid while the frontier is not empty
+         */
+        int shallowestDepth() {
+            while (queuedAtDepth[shallowest] == 0) {
+                shallowest += 1;
+            }
+
+            return shallowest;
+        }
+    }
+
+    @Override
+    protected Node run() {
+        if (problem.goalPackedState == PackedState.NONE) {
+            throw new IllegalStateException("Bidirectional search needs a problem with a single goal state");
+        }
+
+        int expectedStates = Math.min(problem.visitedCapacity, 1 << 16);
+        Half forward = new Half(forwardFrontier, forwardEvaluator, false, expectedStates);
+        Half backward = new Half(backwardFrontier, backwardEvaluator, true, expectedStates);
+        SuccessorBuffer successors = new SuccessorBuffer(problem.operators.length);
+
+        forward.queue(new Node(problem.initialPackedState));
+        backward.queue(new Node(problem.goalPackedState));
+        statistics.generatedNodes += 2;
+
+        while (!forward.frontier.isEmpty() && !backward.frontier.isEmpty()) {
+            statistics.peakFrontierSize = Math.max(statistics.peakFrontierSize,
+                    forward.frontier.size() + backward.frontier.size());
+
+            Half half = forward.frontier.size() <= backward.frontier.size() ? forward : backward;
+            Half other = half == forward ? backward : forward;
+
+            if (bestCost <= half.shallowestDepth() + other.shallowestDepth() + 1) {
+                break;
+            }
+
+            Node front = half.frontier.remove();
+            half.dequeue(front);
+
+            // The evaluation of the removed node bounds the cost of every plan through the queued nodes of its half
+            if (bestCost <= -front.evaluation) {
+                break;
+            }
+
+            statistics.expandedNodes += 1;
+
+            successors.clear();
+
+            if (half.backward) {
+                problem.predecessors(front.packedState, successors);
+            } else {
+                problem.successors(front.packedState, successors);
+            }
+
+            for (int i = 0; i < successors.size; ++i) {
+                long childState = successors.states[i];
+                int operator = successors.operators[i];
+
+                int g = half.evaluator.g(front, operator);
+                int h = half.evaluator.h(front, operator);
+                int f = half.evaluator.f(front, operator, g, h);
+
+                Node known = half.get(childState);
+
+                if (known != null) {
+                    if (!half.frontier.improves(childState, f)) {
+                        statistics.duplicateHits += 1;
+                        continue;
+                    }
+
+                    half.dequeue(known);
+                }
+
+                Node child = new Node(childState, front, operator, g, f);
+                half.queue(child);
+                statistics.generatedNodes += 1;
+
+                Node meeting = other.get(childState);
+
+                if (meeting != null && child.depth + meeting.depth < bestCost) {
+                    bestCost = child.depth + meeting.depth;
+                    bestForward = half.backward ? meeting : child;
+                    bestBackward = half.backward ? child : meeting;
+                }
+            }
+        }
+
+        statistics.peakVisitedSize = forward.nodes.size() + backward.nodes.size();
+
+        return bestForward == null ? null : join(bestForward, bestBackward);
+    }
+
+    /**
+     * Appends the operations of the backward half to the forward half, the result is a plain node path from the
+     * initial state to the goal state
+     */
+    private Node join(Node forward, Node backward) {
+        Node node = forward;
+
+        for (Node step = backward; step.parent != null; step = step.parent) {
+            int g = problem.pathCost(node, step.operator);
+
+            node = new Node(step.parent.packedState, node, step.operator, g);
+        }
+
+        return node;
+    }
+}
@@ -0,0 +1,190 @@
+package code;
+
+import DataStructures.DistanceTable;
+import DataStructures.Node;
+import DataStructures.PackedState;
+
+import java.util.Arrays;
+
+/**
+ * Solves Olympics as a shortest tour instead of a state space search: jarvis starts at its position, visits every
+ * component and ends at the flame, and the cost of a leg is the grid distance of the precomputed distance table.
+ * The best visiting order is found by the Held-Karp dynamic program over subsets of components, then every leg is
+ * turned back into moves by walking down the distance table towards its target.
+ * Time and memory grow with 2^components * components, so the number of components is limited.
+ */
+public class HeldKarpEngine extends SearchAlgorithm {
+    public static final int MAX_COMPONENTS = 16;
+    // Cost of a subset and last component that can not be reached, small enough to add a leg without overflow.
+    // Only single legs are bounded by DistanceTable.UNREACHABLE, a whole tour can be longer than that on large grids
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    public final Olympics olympics;
+
+    public HeldKarpEngine(Olympics olympics) {
+        super(olympics);
+
+        this.olympics = olympics;
+    }
+
+    @Override
+    protected Node run() {
+        int components = olympics.components.size();
+
+        if (components > MAX_COMPONENTS) {
+            throw new IllegalStateException("Held-Karp supports at most " + MAX_COMPONENTS + " components");
+        }
+
+        DistanceTable distances = olympics.distances;
+        int flame = components;
+        int start = PackedState.cell(olympics.initialPackedState);
+
+        if (components == 0) {
+            return distances.distance(flame, start) >= DistanceTable.UNREACHABLE ? null : stitch(new int[0]);
+        }
+
+        int full = (1 << components) - 1;
+        // cost[subset * components + last]: moves of the shortest walk from jarvis visiting exactly the subset and
+        // ending at component last
+        int[] cost = new int[(full + 1) * components];
+        Arrays.fill(cost, INFINITY);
+
+        for (int i = 0; i < components; ++i) {
+            cost[(1 << i) * components + i] = leg(distances.distance(i, start));
+        }
+
+        for (int subset = 1; subset <= full; ++subset) {
+            for (int last = 0; last < components; ++last) {
+                int current = cost[subset * components + last];
+
+                if (current >= INFINITY) {
+                    continue;
+                }
+
+                statistics.expandedNodes += 1;
+
+                for (int next = 0; next < components; ++next) {
+                    if ((subset & (1 << next)) != 0) {
+                        continue;
+                    }
+
+                    int slot = (subset | (1 << next)) * components + next;
+                    int candidate = current + leg(distances.between(last, next));
+
+                    statistics.generatedNodes += 1;
+
+                    if (candidate < cost[slot]) {
+                        cost[slot] = candidate;
+                    }
+                }
+            }
+        }
+
+        int last = -1;
+        int best = INFINITY;
+
+        for (int i = 0; i < components; ++i) {
+            int total = cost[full * components + i] + leg(distances.between(i, flame));
+
+            if (total < best) {
+                best = total;
+                last = i;
+            }
+        }
+
+        if (best >= INFINITY) {
+            return null;
+        }
+
+        return stitch(order(cost, components, full, last));
+    }
+
+    /**
+     * Returns the moves of a leg of the tour, INFINITY if the distance table marks it as unreachable
+     */
+    private static int leg(int distance) {
+        return distance >= DistanceTable.UNREACHABLE ? INFINITY : distance;
+    }
+
+    /**
+     * Walks the cost table back from the last component and returns the visiting order of the components
+     */
+    private int[] order(int[] cost, int components, int full, int last) {
+        DistanceTable distances = olympics.distances;
+        int[] order = new int[components];
+        int subset = full;
+
+        for (int position = components - 1; position > 0; --position) {
+            order[position] = last;
+
+            int previousSubset = subset & ~(1 << last);
+            int target = cost[subset * components + last];
+
+            for (int previous = 0; previous < components; ++previous) {
+                if ((previousSubset & (1 << previous)) != 0
+                        && cost[previousSubset * components + previous] + leg(distances.between(previous, last)) == target) {
+                    last = previous;
+                    break;
+                }
+            }
+
+            subset = previousSubset;
+        }
+
+        order[0] = last;
+
+        return order;
+    }
+
+    /**
+     * Builds the node path of the plan: the moves to every component in order followed by pick, then the moves to the
+     * flame followed by light
+     */
+    private Node stitch(int[] order) {
+        Node node = new Node(olympics.initialPackedState);
+
+        for (int component : order) {
+            node = walk(node, component);
+            node = step(node, Olympics.PICK);
+        }
+
+        node = walk(node, olympics.components.size());
+
+        return step(node, Olympics.LIGHT);
+    }
+
+    /**
+     * Appends the moves from the position of the node to a source of the distance table, every move goes to a
+     * neighbour one step closer to the source
+     */
+    private Node walk(Node node, int source) {
+        DistanceTable distances = olympics.distances;
+        int cell = PackedState.cell(node.packedState);
+
+        while (distances.distance(source, cell) != 0) {
+            int row = cell / olympics.cols;
+            int col = cell % olympics.cols;
+            int closer = distances.distance(source, cell) - 1;
+
+            for (int i = 0; i < 4; ++i) {
+                int nextRow = row + Olympics.moveRow[i];
+                int nextCol = col + Olympics.moveCol[i];
+
+                if (0 <= nextRow && nextRow < olympics.rows && 0 <= nextCol && nextCol < olympics.cols
+                        && distances.distance(source, nextRow * olympics.cols + nextCol) == closer) {
+                    node = step(node, i);
+                    break;
+                }
+            }
+
+            cell = PackedState.cell(node.packedState);
+        }
+
+        return node;
+    }
+
+    private Node step(Node node, int operator) {
+        return new Node(olympics.applyOperation(node.packedState, operator), node, operator,
+                olympics.pathCost(node, operator));
+    }
+}
@@ -0,0 +1,157 @@
+package code;
+
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.Node;
+import DataStructures.SuccessorBuffer;
+import DataStructures.TranspositionTable;
+
+/**
+ * Iterative deepening on the node evaluation (IDA*): every iteration is a depth first search that does not go below
+ * the current bound, the next bound is the best evaluation that was cut off.
+ * With an evaluation of minus the depth this is plain iterative deepening.
+ * Only the current path is kept in memory, states already on the path are skipped to avoid cycles and an optional
+ * bounded transposition table skips states already reached with a better path cost in the same iteration.
+ */
+public class IterativeDeepeningEngine extends SearchAlgorithm {
+    public final NodeEvaluator evaluator;
+    // null when the search only relies on the path
+    public final TranspositionTable transpositions;
+
+    // Nodes and successor buffers of the current path, reused between iterations
+    private Node[] path = new Node[64];
+    private SuccessorBuffer[] buffers = new SuccessorBuffer[64];
+    private int bound;
+    private int nextBound;
+    private int iteration;
+
+    public IterativeDeepeningEngine(GenericSearchProblem problem, NodeEvaluator evaluator, int transpositionCapacity) {
+        super(problem);
+
+        this.evaluator = evaluator;
+        this.transpositions = transpositionCapacity > 0 ? new TranspositionTable(transpositionCapacity) : null;
+    }
+
+    @Override
+    protected Node run() {
+        path[0] = new Node(problem.initialPackedState);
+        path[0].hash = problem.hash(path[0].packedState);
+        statistics.generatedNodes += 1;
+
+        bound = path[0].evaluation;
+
+        while (true) {
+            iteration += 1;
+            nextBound = Integer.MIN_VALUE;
+
+            Node solution = depthFirst(0);
+
+            if (solution != null) {
+                return solution;
+            }
+
+            // Nothing was cut off, the whole reachable space was searched
+            if (nextBound == Integer.MIN_VALUE) {
+                return null;
+            }
+
+            bound = nextBound;
+        }
+    }
+
+    private Node depthFirst(int depth) {
+        Node node = path[depth];
+
+        statistics.expandedNodes += 1;
+
+        if (problem.goalTest(node.packedState, node.operator)) {
+            return node;
+        }
+
+        if (depth + 1 == path.length) {
+            grow();
+        }
+
+        if (buffers[depth] == null) {
+            buffers[depth] = new SuccessorBuffer(problem.operators.length);
+        }
+
+        SuccessorBuffer successors = buffers[depth];
+        successors.clear();
+        problem.successors(node.packedState, node.hash, successors);
+
+        for (int i = 0; i < successors.size; ++i) {
+            long childState = successors.states[i];
+            int hash = successors.hashes[i];
+
+            if (onPath(childState, depth)) {
+                statistics.duplicateHits += 1;
+                continue;
+            }
+
+            int operator = successors.operators[i];
+
+            int g = evaluator.g(node, operator);
+            int h = evaluator.h(node, operator);
+            int f = evaluator.f(node, operator, g, h);
+
+            if (f < bound) {
+                nextBound = Math.max(nextBound, f);
+                continue;
+            }
+
+            if (transpositions != null && transpositions.reached(childState, hash, g, iteration)) {
+                statistics.duplicateHits += 1;
+                continue;
+            }
+
+            Node child = path[depth + 1];
+
+            if (child == null) {
+                child = new Node(childState, node, operator, g, f);
+                child.hash = hash;
+                path[depth + 1] = child;
+            } else {
+                child.packedState = childState;
+                child.hash = hash;
+                child.parent = node;
+                child.operator = (byte) operator;
+                child.pathCost = g;
+                child.evaluation = f;
+                child.depth = depth + 1;
+            }
+
+            statistics.generatedNodes += 1;
+            statistics.peakFrontierSize = Math.max(statistics.peakFrontierSize, depth + 2);
+
+            Node solution = depthFirst(depth + 1);
+
+            if (solution != null) {
+                return solution;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean onPath(long state, int depth) {
+        for (int i = depth; i >= 0; --i) {
+            if (path[i].packedState == state) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void grow() {
+        Node[] grownPath = new Node[path.length << 1];
+        SuccessorBuffer[] grownBuffers = new SuccessorBuffer[path.length << 1];
+
+        System.arraycopy(path, 0, grownPath, 0, path.length);
+        System.arraycopy(buffers, 0, grownBuffers, 0, buffers.length);
+
+        path = grownPath;
+        buffers = grownBuffers;
+    }
+}
@@ -1,36 +1,171 @@
 package code;
 
 import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.BucketFrontier;
+import DataStructures.CompiledProblem;
+import DataStructures.DistanceTable;
 import DataStructures.Point;
 import DataStructures.ADTs.State;
 import DataStructures.Node;
+import DataStructures.NodeArena;
 import DataStructures.OlympicState;
+import DataStructures.PackedState;
+import DataStructures.IndexedPriorityFrontier;
+import DataStructures.LongIntClockCache;
+import DataStructures.PriorityFrontier;
+import DataStructures.QueueFrontier;
+import DataStructures.StackFrontier;
+import DataStructures.SuccessorBuffer;
+import DataStructures.ZobristTable;
 
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class Olympics extends GenericSearchProblem {
 
     public static final String[] operators = {"up", "down", "left", "right", "pick", "light"};
+    // Opcodes of the operators, the index of every operator in operators
+    public static final byte UP = 0;
+    public static final byte DOWN = 1;
+    public static final byte LEFT = 2;
+    public static final byte RIGHT = 3;
+    public static final byte PICK = 4;
+    public static final byte LIGHT = 5;
     public static final int[] moveRow = {-1, +1, 0, 0};
     public static final int[] moveCol = {0, 0, -1, +1};
+    // Rewards of pick and light, every other operator costs one
+    public static final int PICK_REWARD = 150;
+    public static final int LIGHT_REWARD = 15000;
+    // Initial size of the closed list, the set grows on demand so informed searches that only expand a few hundred
+    // nodes do not pay for a table sized for the whole state space
+    public static final int DEFAULT_VISITED_CAPACITY = 1 << 12;
+    // Upper bound for the initial size of the closed list set by reserveStateSpace
+    public static final int MAX_VISITED_CAPACITY = 1 << 21;
+    // Entries of the heuristic cache of a grid and number of grids whose cache is kept between solves
+    public static final int HEURISTIC_CACHE_CAPACITY = 1 << 16;
+    public static final int CACHED_GRIDS = 16;
+    // Seed of the Zobrist keys, fixed so that a grid always hashes the same way
+    public static final long ZOBRIST_SEED = 0x5DEECE66DL;
+
+    // Queuing functions accepted by generalSearch, each one builds the search algorithm that runs the strategy
+    private static final ConcurrentHashMap<String, Function<Olympics, SearchAlgorithm>> strategies = new ConcurrentHashMap<>();
+    // Heuristic caches of the grids most recently solved with heuristicThree, least recently used first
+    private static final LinkedHashMap<CompiledProblem, LongIntClockCache> heuristicCaches = new LinkedHashMap<>(CACHED_GRIDS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompiledProblem, LongIntClockCache> eldest) {
+            return size() > CACHED_GRIDS;
+        }
+    };
+    // Cache of the solve methods, null until setSolutionCache is called
+    private static volatile SolutionCache solutionCache;
+
+    static {
+        registerStrategy("BF", olympics -> new SearchEngine(olympics, new QueueFrontier(), olympics.costEvaluator()));
+        registerStrategy("DF", olympics -> new SearchEngine(olympics, new StackFrontier(), olympics.costEvaluator()));
+        registerStrategy("UC", olympics -> new SearchEngine(olympics, olympics.indexedFrontier(), olympics.costEvaluator()));
+        registerStrategy("GR1", olympics -> new SearchEngine(olympics, new PriorityFrontier(), olympics.greedyEvaluator(1)));
+        registerStrategy("GR2", olympics -> new SearchEngine(olympics, new PriorityFrontier(), olympics.greedyEvaluator(2)));
+        registerStrategy("AS1", olympics -> new SearchEngine(olympics, olympics.indexedFrontier(), olympics.aStarEvaluator(1)));
+        registerStrategy("AS2", olympics -> new SearchEngine(olympics, olympics.indexedFrontier(), olympics.aStarEvaluator(2)));
+        registerStrategy("GR3", olympics -> new SearchEngine(olympics, new PriorityFrontier(), olympics.greedyEvaluator(3)));
+        registerStrategy("AS3", olympics -> new SearchEngine(olympics, olympics.indexedFrontier(), olympics.aStarEvaluator(3)));
+
+        // Same strategies on top of a bucket queue instead of a binary heap
+        registerStrategy("UC-BQ", olympics -> new SearchEngine(olympics, olympics.bucketFrontier(), olympics.costEvaluator()));
+        registerStrategy("GR1-BQ", olympics -> new SearchEngine(olympics, olympics.bucketFrontier(), olympics.greedyEvaluator(1)));
+        registerStrategy("GR2-BQ", olympics -> new SearchEngine(olympics, olympics.bucketFrontier(), olympics.greedyEvaluator(2)));
+        registerStrategy("AS1-BQ", olympics -> new SearchEngine(olympics, olympics.bucketFrontier(), olympics.aStarEvaluator(1)));
+        registerStrategy("AS2-BQ", olympics -> new SearchEngine(olympics, olympics.bucketFrontier(), olympics.aStarEvaluator(2)));
+
+        // Iterative deepening and IDA*, only the current path and a bounded transposition table are kept in memory
+        registerStrategy("ID", olympics -> new IterativeDeepeningEngine(olympics, olympics.depthEvaluator(0), olympics.transpositionCapacity));
+        registerStrategy("IDA1", olympics -> new IterativeDeepeningEngine(olympics, olympics.depthEvaluator(1), olympics.transpositionCapacity));
+        registerStrategy("IDA2", olympics -> new IterativeDeepeningEngine(olympics, olympics.depthEvaluator(2), olympics.transpositionCapacity));
+        registerStrategy("IDA3", olympics -> new IterativeDeepeningEngine(olympics, olympics.depthEvaluator(3), olympics.transpositionCapacity));
+
+        // Level synchronous parallel breadth first search
+        registerStrategy("PBF", olympics -> new ParallelBreadthFirstEngine(olympics, olympics.parallelism));
+
+        // Hash distributed parallel A*
+        registerStrategy("PAS1", olympics -> new ParallelAStarEngine(olympics, olympics.aStarEvaluator(1), olympics.parallelism));
+        registerStrategy("PAS2", olympics -> new ParallelAStarEngine(olympics, olympics.aStarEvaluator(2), olympics.parallelism));
+
+        // Bidirectional breadth first and A* search, the backward half starts from the lighten flame
+        registerStrategy("BBF", olympics -> olympics.bidirectional(0));
+        registerStrategy("BAS1", olympics -> olympics.bidirectional(1));
+        registerStrategy("BAS2", olympics -> olympics.bidirectional(2));
+
+        // Shortest tour over the components by dynamic programming, no state space search
+        registerStrategy("DP", HeldKarpEngine::new);
+    }
 
-    public String problem;
+    // Compiled form of the problem, the tables below are built from it
+    public CompiledProblem compiled;
     public int rows;
     public int cols;
     public Point jarvisPosition;
     public Point flamePosition;
     public ArrayList<Point> components;
     public ArrayList<Point> poisonCells;
+    public int flameCell;
+    // Flat grids indexed by cell (row * cols + col) so that move and pick checks are single array reads, shared with
+    // the compiled problem and must not be modified
+    public boolean[] poisonous;
+    public int[] componentIndex;
+    // Obstacle aware distances from component i (source i) and from the flame (source components.size()) to every cell
+    public DistanceTable distances;
+    // Random keys of the cells, components and flame flag the state hashes are built from
+    public ZobristTable zobrist;
+    // Cost of the minimum spanning tree over the flame and a set of remaining components keyed by the component mask,
+    // shared by every solve of the grid, null until heuristicThree is first evaluated
+    public LongIntClockCache heuristicCache;
+    // Metrics of the last generalSearch call
+    public SearchStatistics statistics;
+    // Slots of the transposition table of the iterative deepening strategies, 0 keeps only the current path
+    public int transpositionCapacity = 1 << 18;
+    // Number of worker threads used by the parallel strategies
+    public int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
 
     public Olympics(String problem) {
+        this(CompiledProblem.compile(problem));
+    }
+
+    public Olympics(CompiledProblem compiled) {
         super();
 
-        this.problem = problem;
+        this.compiled = compiled;
         getData();
 
         super.operators = operators;
         super.initialState = new OlympicState(jarvisPosition, components, false);
+        initialPackedState = encode((OlympicState) super.initialState);
+        goalPackedState = PackedState.pack(flameCell, 0, true);
+        visitedCapacity = stateSpaceSize(DEFAULT_VISITED_CAPACITY);
+    }
+
+    /**
+     * Method that returns the heuristic cache of a grid, the cache is created on first use and kept for the
+     * CACHED_GRIDS most recently used grids. Problems with the same record share their cache, whatever description or
+     * corpus they were compiled from.
+     *
+     * @param compiled Compiled problem
+     * @return LongIntClockCache
+     */
+    public static LongIntClockCache heuristicCache(CompiledProblem compiled) {
+        synchronized (heuristicCaches) {
+            return heuristicCaches.computeIfAbsent(compiled, key -> new LongIntClockCache(16, HEURISTIC_CACHE_CAPACITY));
+        }
+    }
+
+    /**
+     * Same as heuristicCache(CompiledProblem) for a grid description
+     *
+     * @return LongIntClockCache
+     */
+    public static LongIntClockCache heuristicCache(String grid) {
+        return heuristicCache(CompiledProblem.compile(grid));
     }
 
     /**
@@ -44,7 +179,17 @@ public class Olympics extends GenericSearchProblem {
      * @return String
      */
     public static String genGrid() {
-        Random generator = new Random(System.currentTimeMillis());
+        return genGrid(System.currentTimeMillis());
+    }
+
+    /**
+     * Same as genGrid() but reproducible, the same seed always generates the same grid
+     *
+     * @param seed Seed of the random generator
+     * @return String
+     */
+    public static String genGrid(long seed) {
+        Random generator = new Random(seed);
 
         StringBuilder grid = new StringBuilder();
 
@@ -94,14 +239,29 @@ public class Olympics extends GenericSearchProblem {
      *
      * @param grid Description of the current problem
      * @return int[][]
+     * @throws DataStructures.GridFormatException if the description is malformed
      */
     public static int[][] parseGridData(String grid) {
+        CompiledProblem compiled = CompiledProblem.compile(grid);
         int[][] data = new int[5][];
 
-        String[] split = grid.split(";");
+        data[0] = new int[]{compiled.rows, compiled.cols};
+        data[1] = new int[]{compiled.jarvisCell / compiled.cols, compiled.jarvisCell % compiled.cols};
+        data[2] = new int[]{compiled.flameCell / compiled.cols, compiled.flameCell % compiled.cols};
+        data[3] = new int[compiled.componentCount * 2];
+        data[4] = new int[compiled.poisonCount * 2];
+
+        int[] componentCells = compiled.componentCells();
+        int[] poisonCells = compiled.poisonCells();
+
+        for (int i = 0; i < componentCells.length; ++i) {
+            data[3][2 * i] = componentCells[i] / compiled.cols;
+            data[3][2 * i + 1] = componentCells[i] % compiled.cols;
+        }
 
-        for (int i = 0; i < 5; ++i) {
-            data[i] = Stream.of(split[i].split(",")).mapToInt(Integer::parseInt).toArray();
+        for (int i = 0; i < poisonCells.length; ++i) {
+            data[4][2 * i] = poisonCells[i] / compiled.cols;
+            data[4][2 * i + 1] = poisonCells[i] % compiled.cols;
         }
 
         return data;
@@ -115,23 +275,30 @@ public class Olympics extends GenericSearchProblem {
      * @return char[][]
      */
     public static char[][] characterGrid(String grid) {
-        int[][] data = parseGridData(grid);
+        return characterGrid(CompiledProblem.compile(grid));
+    }
 
-        char[][] charGrid = new char[data[0][0]][data[0][1]];
+    /**
+     * Same as characterGrid(String) for an already compiled problem
+     *
+     * @return char[][]
+     */
+    public static char[][] characterGrid(CompiledProblem compiled) {
+        char[][] charGrid = new char[compiled.rows][compiled.cols];
 
         for (char[] chars : charGrid) {
             Arrays.fill(chars, '*');
         }
 
-        charGrid[data[1][0]][data[1][1]] = 'J';
-        charGrid[data[2][0]][data[2][1]] = 'F';
+        charGrid[compiled.jarvisCell / compiled.cols][compiled.jarvisCell % compiled.cols] = 'J';
+        charGrid[compiled.flameCell / compiled.cols][compiled.flameCell % compiled.cols] = 'F';
 
-        for (int i = 0; i < data[3].length; i += 2) {
-            charGrid[data[3][i]][data[3][i + 1]] = 'C';
+        for (int cell : compiled.componentCells()) {
+            charGrid[cell / compiled.cols][cell % compiled.cols] = 'C';
         }
 
-        for (int i = 0; i < data[4].length; i += 2) {
-            charGrid[data[4][i]][data[4][i + 1]] = 'P';
+        for (int cell : compiled.poisonCells()) {
+            charGrid[cell / compiled.cols][cell % compiled.cols] = 'P';
         }
 
         return charGrid;
@@ -161,29 +328,91 @@ public class Olympics extends GenericSearchProblem {
     }
 
     public static String solve(String grid, String strategy, boolean visualize) {
-        Olympics olympics = new Olympics(grid);
+        return solveWithStatistics(grid, strategy, visualize).solution;
+    }
+
+    /**
+     * Same as solve but also returns the metrics of the search
+     *
+     * @return SearchResult
+     */
+    public static SearchResult solveWithStatistics(String grid, String strategy, boolean visualize) {
+        return solveWithStatistics(CompiledProblem.compile(grid), strategy, visualize);
+    }
+
+    /**
+     * Same as solveWithStatistics(String, String, boolean) for an already compiled problem
+     *
+     * @return SearchResult
+     */
+    public static SearchResult solveWithStatistics(CompiledProblem compiled, String strategy, boolean visualize) {
+        SolutionCache cache = solutionCache;
+        String key = null;
+
+        if (cache != null) {
+            key = SolutionCache.key(compiled, strategy);
+            String cached = cache.get(key);
+
+            if (cached != null) {
+                if (visualize && !cached.equals("No Solution!")) {
+                    visualizeSolution(cached, compiled);
+                }
+
+                return new SearchResult(cached, null, true);
+            }
+        }
+
+        Olympics olympics = new Olympics(compiled);
 
-        String solution = olympics.generalSearch(grid, strategy);
+        String solution = olympics.generalSearch(strategy);
+
+        // Unknown strategies leave the statistics empty and are not cached, the strategy may be registered later
+        if (cache != null && olympics.statistics != null) {
+            cache.put(key, solution == null ? "No Solution!" : solution);
+        }
 
         if (solution == null) {
-            return "No Solution!";
+            return new SearchResult("No Solution!", olympics.statistics);
         }
 
         if (visualize) {
-            visualizeSolution(solution, grid);
+            visualizeSolution(solution, compiled);
         }
 
-        return solution;
+        return new SearchResult(solution, olympics.statistics);
+    }
+
+    /**
+     * Method that makes solve and solveWithStatistics return the solutions of a cache, solutions that are not cached
+     * are searched and added to the cache
+     *
+     * @param cache Cache to use, null to search every time
+     */
+    public static void setSolutionCache(SolutionCache cache) {
+        solutionCache = cache;
+    }
+
+    /**
+     * Method that makes a new queuing function available to generalSearch and solve, registering an existing name
+     * replaces its strategy
+     *
+     * @param qingFunc Name of the strategy
+     * @param strategy Builds the search algorithm of the strategy for a given problem
+     */
+    public static void registerStrategy(String qingFunc, Function<Olympics, SearchAlgorithm> strategy) {
+        strategies.put(qingFunc, strategy);
     }
 
     public static void visualizeSolution(String solution, String grid) {
-        int[][] data = parseGridData(grid);
+        visualizeSolution(solution, CompiledProblem.compile(grid));
+    }
 
+    public static void visualizeSolution(String solution, CompiledProblem compiled) {
         String[] split = solution.split(";");
         String[] actions = split[0].split(",");
 
-        Point jarPos = new Point(data[1][0], data[1][1]);
-        char[][] charGrid = characterGrid(grid);
+        Point jarPos = new Point(compiled.jarvisCell / compiled.cols, compiled.jarvisCell % compiled.cols);
+        char[][] charGrid = characterGrid(compiled);
 
         for (char[] chars : charGrid) {
             System.out.println(Arrays.toString(chars));
@@ -200,13 +429,7 @@ public class Olympics extends GenericSearchProblem {
         // X: Flame lighten
         // *: Empty Cell
         for (String operation : actions) {
-            int actionIndex = -1;
-            for (int i = 0; i < operators.length; ++i) {
-                if (operation.equals(operators[i])) {
-                    actionIndex = i;
-                    break;
-                }
-            }
+            int actionIndex = operationIndex(operation);
 
             if (actionIndex != 4 && actionIndex != 5) {
                 if (charGrid[jarPos.x + moveRow[actionIndex]][jarPos.y + moveCol[actionIndex]] != '*') {
@@ -241,33 +464,158 @@ public class Olympics extends GenericSearchProblem {
     }
 
     public void getData() {
-        int[][] data = parseGridData(problem);
+        rows = compiled.rows;
+        cols = compiled.cols;
+        jarvisPosition = pointOf(compiled.jarvisCell);
+        flamePosition = pointOf(compiled.flameCell);
 
-        rows = data[0][0];
-        cols = data[0][1];
-        jarvisPosition = new Point(data[1][0], data[1][1]);
-        flamePosition = new Point(data[2][0], data[2][1]);
+        int[] componentCells = compiled.componentCells();
 
         components = new ArrayList<>();
-        for (int i = 0; i < data[3].length; i += 2) {
-            components.add(new Point(data[3][i], data[3][i + 1]));
+        for (int cell : componentCells) {
+            components.add(pointOf(cell));
         }
 
         poisonCells = new ArrayList<>();
-        for (int i = 0; i < data[4].length; i += 2) {
-            poisonCells.add(new Point(data[4][i], data[4][i + 1]));
+        for (int cell : compiled.poisonCells()) {
+            poisonCells.add(pointOf(cell));
+        }
+
+        if (components.size() > PackedState.MAX_COMPONENTS) {
+            throw new IllegalArgumentException("At most " + PackedState.MAX_COMPONENTS + " components are supported");
+        }
+
+        flameCell = compiled.flameCell;
+        poisonous = compiled.obstacles();
+        componentIndex = compiled.componentIndex();
+
+        int[] targets = new int[components.size() + 1];
+        for (int i = 0; i < components.size(); ++i) {
+            targets[i] = componentCells[i];
+        }
+        targets[components.size()] = flameCell;
+
+        distances = new DistanceTable(rows, cols, poisonous, targets);
+        zobrist = new ZobristTable(rows * cols, components.size(), ZOBRIST_SEED);
+    }
+
+    /**
+     * Method that returns the number of distinct states of the problem: every cell with every subset of components
+     * plus the lighten state, clamped to the passed limit
+     *
+     * @param limit Maximum value to return
+     * @return int
+     */
+    public int stateSpaceSize(int limit) {
+        long size = (long) rows * cols;
+
+        if (components.size() >= 32 || size << components.size() >= limit) {
+            return limit;
+        }
+
+        return (int) (size << components.size()) + 1;
+    }
+
+    /**
+     * Method that sizes the closed list for the whole state space, up to MAX_VISITED_CAPACITY states, instead of letting
+     * it grow from DEFAULT_VISITED_CAPACITY. Only pays off for searches that visit most of the states, like BF on
+     * large grids, as the table is allocated and cleared up front.
+     */
+    public void reserveStateSpace() {
+        visitedCapacity = stateSpaceSize(MAX_VISITED_CAPACITY);
+    }
+
+    /**
+     * Method that returns the description of the problem, it replaces the public field problem of earlier versions,
+     * which was built eagerly for every solve: callers that read olympics.problem have to call problem() instead
+     *
+     * @return Description of the problem, only rendered on first use for problems read from a corpus
+     */
+    public String problem() {
+        return compiled.grid();
+    }
+
+    public int cellOf(Point position) {
+        return position.x * cols + position.y;
+    }
+
+    public Point pointOf(int cell) {
+        return new Point(cell / cols, cell % cols);
+    }
+
+    /**
+     * Method that packs an OlympicState into a long, component i of the problem is mapped to bit i of the mask
+     *
+     * @param state State to be packed
+     * @return long
+     */
+    public long encode(OlympicState state) {
+        long remaining = 0;
+
+        for (Point component : state.remComp) {
+            remaining |= 1L << components.indexOf(component);
         }
+
+        return PackedState.pack(cellOf(state.position), remaining, state.isLighten);
+    }
+
+    /**
+     * Method that materializes a packed state back into an OlympicState, components keep the order of the problem
+     *
+     * @param state Packed state
+     * @return OlympicState
+     */
+    public OlympicState decode(long state) {
+        ArrayList<Point> remComp = new ArrayList<>();
+
+        for (int i = 0; i < components.size(); ++i) {
+            if (PackedState.hasComponent(state, i)) {
+                remComp.add(components.get(i));
+            }
+        }
+
+        return new OlympicState(pointOf(PackedState.cell(state)), remComp, PackedState.isLighten(state));
+    }
+
+    /**
+     * Returns the index of the component located at a cell or -1 if there is no component at that cell
+     */
+    public int componentAt(int cell) {
+        return componentIndex[cell];
+    }
+
+    public boolean isPoisonous(int row, int col) {
+        return poisonous[row * cols + col];
     }
 
     public String printSolution(Node solution, int expandedNodes) {
+        return printSolution(solution, null, expandedNodes);
+    }
+
+    /**
+     * Method that prints the operations from the root to a solution node, following the parent objects of the nodes
+     * and then the parent slots of the arena
+     *
+     * @param arena Arena the parent slots point into, null if the nodes are only linked as objects
+     * @return String
+     */
+    public String printSolution(Node solution, NodeArena arena, int expandedNodes) {
         Stack<String> operations = new Stack<>();
 
         while (solution.parent != null) {
-            operations.push(solution.operator);
+            operations.push(operators[solution.operator]);
 
             solution = solution.parent;
         }
 
+        if (solution.parentSlot != NodeArena.NO_PARENT) {
+            operations.push(operators[solution.operator]);
+
+            for (int slot = solution.parentSlot; arena.parent(slot) != NodeArena.NO_PARENT; slot = arena.parent(slot)) {
+                operations.push(operators[arena.operator(slot)]);
+            }
+        }
+
         StringBuilder sol = new StringBuilder();
 
         boolean first = true;
@@ -288,19 +636,24 @@ public class Olympics extends GenericSearchProblem {
     }
 
     @Override
-    public boolean goalTest(State state, String operator) {
+    public boolean goalTest(State state, int operator) {
         OlympicState olympicState = (OlympicState) state;
 
-        return olympicState.position.equals(flamePosition) && olympicState.remComp.size() == 0 && operator.equals("light");
+        return olympicState.position.equals(flamePosition) && olympicState.remComp.size() == 0 && operator == LIGHT;
+    }
+
+    @Override
+    public boolean goalTest(long state, int operator) {
+        return PackedState.cell(state) == flameCell && PackedState.components(state) == 0 && operator == LIGHT;
     }
 
     @Override
-    public int pathCost(Node parent, String operator) {
+    public int pathCost(Node parent, int operator) {
         int reward = 0;
 
         switch (operator) {
-            case "pick" -> reward += 150;
-            case "light" -> reward += 15000;
+            case PICK -> reward += PICK_REWARD;
+            case LIGHT -> reward += LIGHT_REWARD;
             default -> reward -= 1;
         }
 
@@ -310,21 +663,39 @@ public class Olympics extends GenericSearchProblem {
     }
 
     @Override
-    public int pathCost(Node parent, String operator, int penalty) {
+    public int pathCost(Node parent, int operator, int penalty) {
         return pathCost(parent, operator) + penalty;
     }
 
-    public int operationIndex(String operator) {
-        int index = -1;
+    /**
+     * Method that returns the highest reward a path through the child of a node can still collect: the path cost of
+     * the child plus the rewards of the components it has left to pick and of lighting the flame.
+     * Path costs grow with every pick, so a child can have a better path cost than its parent and ordering by path cost
+     * can expand a state before its cheapest path is known. A move lowers the bound by one and a pick or a light only
+     * moves a reward into the path cost, so the bound never increases along a path.
+     *
+     * @param g Path cost of the child
+     * @return int
+     */
+    public int rewardBound(Node parent, int operator, int g) {
+        int picks = Long.bitCount(PackedState.components(parent.packedState)) - (operator == PICK ? 1 : 0);
 
-        for (int i = 0; i < operators.length; ++i) {
-            if (operator.equals(operators[i])) {
-                index = i;
-                break;
-            }
-        }
+        return g + picks * PICK_REWARD + (operator == LIGHT ? 0 : LIGHT_REWARD);
+    }
 
-        return index;
+    /**
+     * Returns the opcode of an operator name or -1 if there is no such operator, only needed to read plans
+     */
+    public static int operationIndex(String operator) {
+        return switch (operator) {
+            case "up" -> UP;
+            case "down" -> DOWN;
+            case "left" -> LEFT;
+            case "right" -> RIGHT;
+            case "pick" -> PICK;
+            case "light" -> LIGHT;
+            default -> -1;
+        };
     }
 
     /**
@@ -355,46 +726,8 @@ public class Olympics extends GenericSearchProblem {
      */
 
     @Override
-    public int heuristicOne(Node parent, String operator) {
-        OlympicState state = (OlympicState) parent.state;
-
-        // Steps to finding the heuristic value
-        // 1. Before applying any operation look up the closest target
-        //  1.1 A component if the parent still has components
-        //  1.2 The flame if all components are exhausted
-        // 2. Based on the passed operator: Apply the heuristic function
-        int val = 0;
-
-        if (!operator.equals("pick") && !operator.equals("light")) {
-            // If components are exhausted then the closest goal is the flame after applying the operation on the position
-            // of the parent
-            if (state.remComp.size() == 0) {
-                val =
-                        Math.abs(flamePosition.x - jarvisPosition.x + moveRow[operationIndex(operator)])
-                                + Math.abs(flamePosition.y - jarvisPosition.y + moveCol[operationIndex(operator)]);
-            } else {
-                // Before moving, find the closest component to jarvis
-                Point closestGoal = null;
-                int distance = Integer.MAX_VALUE;
-
-                for (int i = 0; i < state.remComp.size(); ++i) {
-                    Point p = state.remComp.get(i);
-                    int d = Math.abs(p.x - jarvisPosition.x) + Math.abs(p.y - jarvisPosition.y);
-
-                    if (d < distance) {
-                        distance = d;
-                        closestGoal = p;
-                    }
-                }
-
-                if (closestGoal != null) {
-                    val = Math.abs(closestGoal.x - jarvisPosition.x + moveRow[operationIndex(operator)])
-                            + Math.abs(closestGoal.y - jarvisPosition.y + moveCol[operationIndex(operator)]);
-                }
-            }
-        }
-
-        return val * -1 + parent.pathCost;
+    public int heuristicOne(Node parent, int operator) {
+        return estimate(1, parent.packedState, operator) * -1 + parent.pathCost;
     }
 
     /**
@@ -404,474 +737,561 @@ public class Olympics extends GenericSearchProblem {
      * @return int
      */
     @Override
-    public int heuristicTwo(Node parent, String operator) {
-        OlympicState state = (OlympicState) parent.state;
-
-        int val = 0;
-
-        if (!operator.equals("pick") && !operator.equals("light")) {
-            if (state.remComp.size() == 0) {
-                val =
-                        Math.max(Math.abs(flamePosition.x - jarvisPosition.x + moveRow[operationIndex(operator)]),
-                                Math.abs(flamePosition.y - jarvisPosition.y + moveCol[operationIndex(operator)]));
-            } else {
-                Point closestGoal = null;
-                int distance = Integer.MAX_VALUE;
-
-                for (int i = 0; i < state.remComp.size(); ++i) {
-                    Point p = state.remComp.get(i);
-                    int d = Math.max(Math.abs(p.x - jarvisPosition.x), Math.abs(p.y - jarvisPosition.y));
-
-                    if (d < distance) {
-                        distance = d;
-                        closestGoal = p;
-                    }
-                }
-
-                if (closestGoal != null) {
-                    val = Math.max(Math.abs(closestGoal.x - jarvisPosition.x + moveRow[operationIndex(operator)]),
-                            Math.abs(closestGoal.y - jarvisPosition.y + moveCol[operationIndex(operator)]));
-                }
-            }
-        }
-
-        return val * -1 + parent.pathCost;
+    public int heuristicTwo(Node parent, int operator) {
+        return estimate(2, parent.packedState, operator) * -1 + parent.pathCost;
     }
 
-    @Override
-    public String generalSearch(String problem, String qingFunc) {
-        String solution = null;
-
-        switch (qingFunc) {
-            case "BF":
-                solution = BFS();
-                break;
-            case "DF":
-                solution = DFS();
-                break;
-            case "UC":
-                solution = UC();
-                break;
-            case "GR1":
-                solution = GR(1);
-                break;
-            case "GR2":
-                solution = GR(2);
-                break;
-            case "AS1":
-                solution = AS(1);
-                break;
-            case "AS2":
-                solution = AS(2);
-                break;
-        }
-
-        return solution;
+    /**
+     * Heuristic based on a minimum spanning tree over jarvis, the remaining components and the flame, edges are the
+     * shortest path distances around poison cells looked up in the precomputed distance table
+     *
+     * The remaining moves walk from jarvis to one of the remaining components and then through every other remaining
+     * component to the flame, that walk spans the remaining components and the flame so it is never shorter than
+     * their minimum spanning tree. The estimate is the distance to the closest remaining component plus that tree,
+     * so it is admissible and unlike heuristicOne/heuristicTwo it grows with the number of remaining components.
+     * @param parent Node
+     * @param operator Operator applied on a parent state
+     * @return int
+     */
+    public int heuristicThree(Node parent, int operator) {
+        return estimate(3, parent.packedState, operator) * -1 + parent.pathCost;
     }
 
     /**
-     * This method takes the position of jarvis and checks if a chosen operation is valid based on these conditions:
-     * up/down/left/right: Movement does not exceed grid boundary and movement does not land on a poison cell
-     * pick: Jarvis is on a component cell
-     * light: Jarvis is on a flame cell, flame not lighten & no components remaining
+     * Method that returns the distance estimate used by a heuristic after applying an operator on a state, the
+     * distance from the cell of the child to the closest target it still has to visit (see targetDistance).
+     * The minimum over the targets changes by at most one per move and a pick only removes a target, so the estimate
+     * is consistent: the evaluation of aStarEvaluator never increases along a path and a state leaves a frontier with
+     * its best path cost, which is what keeps A* optimal without reopening states.
      *
-     * @return boolean
+     * @param heuristic 1 for manhattan distance, 2 for chess board distance, 3 for the spanning tree of heuristicThree
+     * @param state Packed state of the parent
+     * @param operator Operator applied on the parent state
+     * @return int
      */
-    public boolean validOperation(OlympicState jarvisState, String operator) {
-        boolean valid;
+    public int estimate(int heuristic, long state, int operator) {
+        long child = applyOperation(state, operator);
 
-        if (!operator.equals("pick") && !operator.equals("light")) {
-            valid = 0 <= jarvisState.position.x && jarvisState.position.x < rows &&
-                    0 <= jarvisState.position.y && jarvisState.position.y < cols &&
-                    !poisonCells.contains(jarvisState.position);
-
-        } else if (operator.equals("pick")) {
-            valid = jarvisState.remComp.contains(jarvisState.position);
-        } else {
-            valid = jarvisState.position.equals(flamePosition) && !jarvisState.isLighten && jarvisState.remComp.size() == 0;
+        if (heuristic == 3) {
+            return spanningEstimate(child);
         }
 
-
-        return valid;
+        return targetDistance(heuristic, child, false);
     }
 
-    public String BFS() {
-        Node solution = null;
-        int expandedNodes = 0;
-
-        Queue<Node> queue = new LinkedList<>();
-        HashSet<OlympicState> visitedStates = new HashSet<>();
+    /**
+     * Returns the estimate of heuristicThree for a state, the grid distance to the closest remaining component plus the
+     * spanning tree over the remaining components and the flame
+     */
+    private int spanningEstimate(long state) {
+        if (PackedState.isLighten(state)) {
+            return 0;
+        }
 
-        Node root = new Node(super.initialState);
-        queue.add(root);
-        visitedStates.add((OlympicState) root.state);
+        long remaining = PackedState.components(state);
 
-        while (!queue.isEmpty()) {
-            Node front = queue.remove();
-            OlympicState frontState = (OlympicState) front.state;
+        return closestTarget(remaining, PackedState.cell(state)) + spanningTree(remaining);
+    }
 
-            expandedNodes += 1;
-            // Check if node is a goal node
-            if (goalTest(front.state, front.operator)) {
-                solution = front;
-                break;
-            }
+    /**
+     * Returns the cost of the minimum spanning tree over the flame and the remaining components, computed by Prim's
+     * algorithm once per component mask as long as the mask stays in the heuristic cache
+     */
+    private int spanningTree(long remaining) {
+        // Only the strategies of heuristicThree look the cache of the grid up, the others never create it
+        if (heuristicCache == null) {
+            heuristicCache = heuristicCache(compiled);
+        }
 
-            // Apply all operators and check if the state of a potential child is not repeated
-            OlympicState childState;
-            Node child;
+        int cached = heuristicCache.get(remaining);
 
-            // Apply movement operators
-            for (int i = 0; i < 4; ++i) {
-                childState = new OlympicState(
-                        new Point(frontState.position.x + moveRow[i], frontState.position.y + moveCol[i]),
-                        new ArrayList<>(frontState.remComp), false);
+        if (cached != LongIntClockCache.MISSING) {
+            return cached;
+        }
 
-                // Check if operation is valid or state was not visited before
-                if (!validOperation(childState, operators[i]) || visitedStates.contains(childState)) {
-                    continue;
-                }
+        int flame = components.size();
+        int[] vertices = new int[Long.bitCount(remaining) + 1];
+        int count = 0;
 
-                child = new Node(childState, front, operators[i], 0);
+        for (long bits = remaining; bits != 0; bits &= bits - 1) {
+            vertices[count++] = Long.numberOfTrailingZeros(bits);
+        }
+        vertices[count++] = flame;
 
-                queue.add(child);
-                visitedStates.add(childState);
-            }
+        // Cheapest edge from every vertex outside of the tree to the tree, the tree starts at the flame
+        int[] cheapest = new int[count];
+        boolean[] inTree = new boolean[count];
+        int current = count - 1;
+        int cost = 0;
 
-            // Apply Light Operation
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[5])) {
-                childState.isLighten = true;
+        Arrays.fill(cheapest, Integer.MAX_VALUE);
+        inTree[current] = true;
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[5], 0);
+        for (int added = 1; added < count; ++added) {
+            int next = -1;
 
-                    queue.add(child);
-                    visitedStates.add(childState);
+            for (int i = 0; i < count; ++i) {
+                if (inTree[i]) {
+                    continue;
                 }
-            }
-
-            // Apply Pick
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[4])) {
-                childState.remComp.remove(childState.position);
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[4], 0);
+                cheapest[i] = Math.min(cheapest[i], distances.between(vertices[current], vertices[i]));
 
-                    queue.add(child);
-                    visitedStates.add(childState);
+                if (next == -1 || cheapest[i] < cheapest[next]) {
+                    next = i;
                 }
             }
-        }
 
-        if (solution == null) {
-            return null;
+            inTree[next] = true;
+            cost += cheapest[next];
+            current = next;
         }
 
-        return printSolution(solution, expandedNodes);
+        heuristicCache.put(remaining, cost);
+
+        return cost;
     }
 
-    public String DFS() {
-        Node solution = null;
-        int expandedNodes = 0;
+    /**
+     * Returns the grid distance from a cell to the closest remaining component, or to the flame if no component remains
+     */
+    private int closestTarget(long remaining, int cell) {
+        if (remaining == 0) {
+            return distances.distance(components.size(), cell);
+        }
 
-        Stack<Node> stack = new Stack<>();
-        HashSet<OlympicState> visitedStates = new HashSet<>();
+        int closest = DistanceTable.UNREACHABLE;
 
-        Node root = new Node(super.initialState);
+        for (long bits = remaining; bits != 0; bits &= bits - 1) {
+            closest = Math.min(closest, distances.distance(Long.numberOfTrailingZeros(bits), cell));
+        }
 
-        stack.push(root);
-        visitedStates.add((OlympicState) root.state);
+        return closest;
+    }
+
+    private static int distance(int heuristic, int dx, int dy) {
+        return heuristic == 1 ? Math.abs(dx) + Math.abs(dy) : Math.max(Math.abs(dx), Math.abs(dy));
+    }
 
-        while (!stack.isEmpty()) {
-            Node top = stack.pop();
-            OlympicState topState = (OlympicState) top.state;
+    /**
+     * Frontier of uniform cost and A* search, holds one node per state and updates it when a cheaper path is found
+     */
+    public IndexedPriorityFrontier indexedFrontier() {
+        return new IndexedPriorityFrontier(Math.min(visitedCapacity, 1 << 16));
+    }
 
-            expandedNodes += 1;
+    /**
+     * Bucket queue alternative of indexedFrontier, pays off because evaluations are small integers
+     */
+    public BucketFrontier bucketFrontier() {
+        return new BucketFrontier(Math.min(visitedCapacity, 1 << 16));
+    }
 
-            if (goalTest(top.state, top.operator)) {
-                solution = top;
-                break;
+    /**
+     * Evaluator of uninformed and uniform cost search, nodes are ordered by the reward bound of rewardBound which
+     * unlike the path cost never increases along a path, so a state is always expanded through its cheapest path
+     */
+    public NodeEvaluator costEvaluator() {
+        return new NodeEvaluator() {
+            @Override
+            public int g(Node parent, int operator) {
+                return pathCost(parent, operator);
             }
 
-            OlympicState childState;
-            Node child;
-
-            for (int i = 0; i < 4; ++i) {
-                childState = new OlympicState(
-                        new Point(topState.position.x + moveRow[i], topState.position.y + moveCol[i]),
-                        new ArrayList<>(topState.remComp), false);
+            @Override
+            public int h(Node parent, int operator) {
+                return 0;
+            }
 
-                if (!validOperation(childState, operators[i]) || visitedStates.contains(childState)) {
-                    continue;
-                }
+            @Override
+            public int f(Node parent, int operator, int g, int h) {
+                return rewardBound(parent, operator, g);
+            }
+        };
+    }
 
-                child = new Node(childState, top, operators[i], 0);
+    /**
+     * Evaluator of iterative deepening, deeper nodes have a lower evaluation so the bound of IDA* becomes a limit on the
+     * number of operations plus the distance estimate.
+     * The rewards of pick and light are left out of the evaluation, otherwise every picked component would allow 150
+     * more moves within the same bound, every goal collects the same rewards so the shortest plan is still the best one.
+     *
+     * @param heuristic 1, 2 or 3 to add the estimate of heuristicOne/heuristicTwo/heuristicThree, 0 for plain iterative
+     *                  deepening
+     */
+    public NodeEvaluator depthEvaluator(int heuristic) {
+        return new NodeEvaluator() {
+            @Override
+            public int g(Node parent, int operator) {
+                return pathCost(parent, operator);
+            }
 
-                stack.push(child);
-                visitedStates.add(childState);
+            @Override
+            public int h(Node parent, int operator) {
+                return heuristic == 0 ? 0 : estimate(heuristic, parent.packedState, operator);
             }
 
-            childState = new OlympicState(new Point(topState.position), new ArrayList<>(topState.remComp), false);
-            if (validOperation(childState, operators[5])) {
-                childState.isLighten = true;
+            @Override
+            public int f(Node parent, int operator, int g, int h) {
+                return (parent.depth + 1 + h) * -1;
+            }
+        };
+    }
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, top, operators[5], 0);
+    /**
+     * Evaluator of one half of bidirectional search, nodes are ordered by their number of operations plus the distance
+     * to the closest target of their half like depthEvaluator
+     *
+     * @param heuristic 1 or 2 for the manhattan or chess board distance, 0 for breadth first order
+     * @param backward true for the half that searches from the goal towards the initial state
+     */
+    public NodeEvaluator bidirectionalEvaluator(int heuristic, boolean backward) {
+        return new NodeEvaluator() {
+            @Override
+            public int g(Node parent, int operator) {
+                return pathCost(parent, operator);
+            }
 
-                    stack.push(child);
-                    visitedStates.add(childState);
+            @Override
+            public int h(Node parent, int operator) {
+                if (heuristic == 0) {
+                    return 0;
                 }
-            }
 
-            childState = new OlympicState(new Point(topState.position), new ArrayList<>(topState.remComp), false);
-            if (validOperation(childState, operators[4])) {
-                childState.remComp.remove(childState.position);
+                long child = backward ? revertOperation(parent.packedState, operator) : applyOperation(parent.packedState, operator);
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, top, operators[4], 0);
+                return targetDistance(heuristic, child, backward);
+            }
 
-                    stack.push(child);
-                    visitedStates.add(childState);
-                }
+            @Override
+            public int f(Node parent, int operator, int g, int h) {
+                return (parent.depth + 1 + h) * -1;
             }
-        }
+        };
+    }
 
-        if (solution == null) {
-            return null;
+    /**
+     * Method that returns the distance from jarvis to the closest cell it still has to visit: a remaining component,
+     * or the flame once every component was picked.
+     * Searching backward the targets are the picked components and then the initial position of jarvis.
+     * The distance never decreases by more than one per move, so the estimate is consistent.
+     *
+     * @return int
+     */
+    public int targetDistance(int heuristic, long state, boolean backward) {
+        if (!backward && PackedState.isLighten(state)) {
+            return 0;
         }
 
-        return printSolution(solution, expandedNodes);
-    }
+        int row = PackedState.cell(state) / cols;
+        int col = PackedState.cell(state) % cols;
 
-    public String UC() {
-        Node solution = null;
-        int expandedNodes = 0;
+        long targets = backward ? PackedState.components(initialPackedState) & ~PackedState.components(state) : PackedState.components(state);
 
-        PriorityQueue<Node> queue = new PriorityQueue<>(Collections.reverseOrder());
-        HashSet<OlympicState> visitedStates = new HashSet<>();
+        if (targets == 0) {
+            Point last = backward ? jarvisPosition : flamePosition;
 
-        Node root = new Node(super.initialState);
-        queue.add(root);
-        visitedStates.add((OlympicState) root.state);
+            return distance(heuristic, last.x - row, last.y - col);
+        }
 
-        while (!queue.isEmpty()) {
-            Node front = queue.remove();
-            OlympicState frontState = (OlympicState) front.state;
+        int closest = Integer.MAX_VALUE;
 
-            expandedNodes += 1;
+        for (long bits = targets; bits != 0; bits &= bits - 1) {
+            Point p = components.get(Long.numberOfTrailingZeros(bits));
 
-            if (goalTest(front.state, front.operator)) {
-                solution = front;
-                break;
-            }
+            closest = Math.min(closest, distance(heuristic, p.x - row, p.y - col));
+        }
 
-            OlympicState childState;
-            Node child;
+        return closest;
+    }
 
-            for (int i = 0; i < 4; ++i) {
-                childState = new OlympicState(
-                        new Point(frontState.position.x + moveRow[i], frontState.position.y + moveCol[i]),
-                        new ArrayList<>(frontState.remComp), false
-                );
+    /**
+     * Builds bidirectional search with the passed heuristic, 0 searches breadth first in both directions
+     */
+    public BidirectionalSearchEngine bidirectional(int heuristic) {
+        return new BidirectionalSearchEngine(this, indexedFrontier(), bidirectionalEvaluator(heuristic, false),
+                indexedFrontier(), bidirectionalEvaluator(heuristic, true));
+    }
 
-                if (!validOperation(childState, operators[i]) || visitedStates.contains(childState)) {
-                    continue;
-                }
+    /**
+     * Evaluator of greedy search, nodes are ordered by heuristicOne/heuristicTwo/heuristicThree of their parent
+     */
+    public NodeEvaluator greedyEvaluator(int heuristic) {
+        return new NodeEvaluator() {
+            @Override
+            public int g(Node parent, int operator) {
+                return pathCost(parent, operator);
+            }
 
-                child = new Node(childState, front, operators[i], pathCost(front, operators[i]));
+            @Override
+            public int h(Node parent, int operator) {
+                return estimate(heuristic, parent.packedState, operator);
+            }
 
-                queue.add(child);
-                visitedStates.add(childState);
+            @Override
+            public int f(Node parent, int operator, int g, int h) {
+                return h * -1 + parent.pathCost;
             }
+        };
+    }
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[5])) {
-                childState.isLighten = true;
+    /**
+     * Evaluator of A* search, as costs are rewards the heuristic estimate is subtracted from the reward bound of
+     * rewardBound, the estimate of the moves left can only lower the reward a node can still collect. The estimate is
+     * consistent, so the evaluation never increases along a path and the frontiers do not need to reopen states
+     */
+    public NodeEvaluator aStarEvaluator(int heuristic) {
+        return new NodeEvaluator() {
+            @Override
+            public int g(Node parent, int operator) {
+                return pathCost(parent, operator);
+            }
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[5], pathCost(front, operators[5]));
+            @Override
+            public int h(Node parent, int operator) {
+                return estimate(heuristic, parent.packedState, operator);
+            }
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
+            @Override
+            public int f(Node parent, int operator, int g, int h) {
+                return rewardBound(parent, operator, g) - h;
             }
+        };
+    }
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[4])) {
-                childState.remComp.remove(childState.position);
+    /**
+     * Same as generalSearch(String) as this problem is always the one being solved
+     */
+    @Override
+    public String generalSearch(String problem, String qingFunc) {
+        return generalSearch(qingFunc);
+    }
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[4], pathCost(front, operators[4]));
+    /**
+     * Method that solves this problem with a registered strategy
+     *
+     * @param qingFunc Name of the strategy
+     * @return String the plan and the number of expanded nodes, null if there is no solution or no such strategy
+     */
+    public String generalSearch(String qingFunc) {
+        Function<Olympics, SearchAlgorithm> strategy = strategies.get(qingFunc);
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
-            }
+        if (strategy == null) {
+            return null;
         }
 
+        SearchAlgorithm algorithm = strategy.apply(this);
+        Node solution = algorithm.search();
+        statistics = algorithm.statistics;
+
         if (solution == null) {
             return null;
         }
 
-        return printSolution(solution, expandedNodes);
+        return printSolution(solution, algorithm.arena, (int) algorithm.statistics.expandedNodes);
     }
 
-    public String GR(int heuristic) {
-        Node solution = null;
-        int expandedNodes = 0;
-
-        PriorityQueue<Node> queue = new PriorityQueue<>(Collections.reverseOrder());
-        HashSet<OlympicState> visitedStates = new HashSet<>();
+    /**
+     * This method takes the position of jarvis and checks if a chosen operation is valid based on these conditions:
+     * up/down/left/right: Movement does not exceed grid boundary and movement does not land on a poison cell
+     * pick: Jarvis is on a component cell
+     * light: Jarvis is on a flame cell, flame not lighten & no components remaining
+     *
+     * @return boolean
+     */
+    public boolean validOperation(OlympicState jarvisState, int operator) {
+        boolean valid;
 
-        Node root = new Node(super.initialState);
-        queue.add(root);
-        visitedStates.add((OlympicState) root.state);
+        if (operator != PICK && operator != LIGHT) {
+            valid = 0 <= jarvisState.position.x && jarvisState.position.x < rows &&
+                    0 <= jarvisState.position.y && jarvisState.position.y < cols &&
+                    !isPoisonous(jarvisState.position.x, jarvisState.position.y);
 
-        while (!queue.isEmpty()) {
-            Node front = queue.remove();
-            OlympicState frontState = (OlympicState) front.state;
+        } else if (operator == PICK) {
+            valid = jarvisState.remComp.contains(jarvisState.position);
+        } else {
+            valid = jarvisState.position.equals(flamePosition) && !jarvisState.isLighten && jarvisState.remComp.size() == 0;
+        }
 
-            expandedNodes += 1;
 
-            if (goalTest(front.state, front.operator)) {
-                solution = front;
-                break;
-            }
+        return valid;
+    }
 
-            OlympicState childState;
-            Node child;
+    /**
+     * Same checks as validOperation(OlympicState, int) but on a packed state, for movement operators the check is
+     * done on the cell jarvis would land on after applying the operator on the passed state
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean validOperation(long state, int operator) {
+        int cell = PackedState.cell(state);
+        boolean valid;
 
-            for (int i = 0; i < 4; ++i) {
-                childState = new OlympicState(
-                        new Point(frontState.position.x + moveRow[i], frontState.position.y + moveCol[i]),
-                        new ArrayList<>(frontState.remComp), false
-                );
+        if (operator != PICK && operator != LIGHT) {
+            int row = cell / cols + moveRow[operator];
+            int col = cell % cols + moveCol[operator];
 
-                if (!validOperation(childState, operators[i]) || visitedStates.contains(childState)) {
-                    continue;
-                }
+            valid = 0 <= row && row < rows && 0 <= col && col < cols && !isPoisonous(row, col);
+        } else if (operator == PICK) {
+            int component = componentAt(cell);
 
-                child = new Node(childState, front, operators[i],
-                        heuristic == 1 ? heuristicOne(front, operators[i]) : heuristicTwo(front, operators[i]));
+            valid = component != -1 && PackedState.hasComponent(state, component);
+        } else {
+            valid = cell == flameCell && !PackedState.isLighten(state) && PackedState.components(state) == 0;
+        }
 
-                queue.add(child);
-                visitedStates.add(childState);
-            }
+        return valid;
+    }
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[5])) {
-                childState.isLighten = true;
+    @Override
+    public long applyOperation(long state, int operator) {
+        int cell = PackedState.cell(state);
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[5],
-                            heuristic == 1 ? heuristicOne(front, operators[5]) : heuristicTwo(front, operators[5]));
+        if (operator == PICK) {
+            return PackedState.withoutComponent(state, componentAt(cell));
+        } else if (operator == LIGHT) {
+            return PackedState.lighten(state);
+        }
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
-            }
+        return PackedState.withCell(state, cell + moveRow[operator] * cols + moveCol[operator]);
+    }
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[4])) {
-                childState.remComp.remove(childState.position);
+    /**
+     * Method that generates the successors of a state in the same order as the operators array without creating
+     * any object, movement operators are only written if they stay inside the grid and avoid poison cells
+     */
+    @Override
+    public void successors(long state, SuccessorBuffer buffer) {
+        int cell = PackedState.cell(state);
+        int row = cell / cols;
+        int col = cell % cols;
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[4],
-                            heuristic == 1 ? heuristicOne(front, operators[4]) : heuristicTwo(front, operators[4]));
+        for (int i = 0; i < 4; ++i) {
+            int childRow = row + moveRow[i];
+            int childCol = col + moveCol[i];
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
+            if (0 <= childRow && childRow < rows && 0 <= childCol && childCol < cols && !isPoisonous(childRow, childCol)) {
+                buffer.add(PackedState.withCell(state, childRow * cols + childCol), i);
             }
         }
 
-        if (solution == null) {
-            return null;
+        int component = componentAt(cell);
+
+        if (component != -1 && PackedState.hasComponent(state, component)) {
+            buffer.add(PackedState.withoutComponent(state, component), PICK);
         }
 
-        return printSolution(solution, expandedNodes);
+        if (cell == flameCell && !PackedState.isLighten(state) && PackedState.components(state) == 0) {
+            buffer.add(PackedState.lighten(state), LIGHT);
+        }
     }
 
-    public String AS(int heuristic) {
-        Node solution = null;
-        int expandedNodes = 0;
-
-        PriorityQueue<Node> queue = new PriorityQueue<>(Collections.reverseOrder());
-        HashSet<OlympicState> visitedStates = new HashSet<>();
-
-        Node root = new Node(super.initialState);
-        queue.add(root);
-        visitedStates.add((OlympicState) root.state);
+    /**
+     * Same as successors(long, SuccessorBuffer) with the Zobrist hash of every successor derived from the hash of the
+     * state: a move swaps two cell keys, a pick removes the key of the component and a light adds the flame key
+     */
+    @Override
+    public void successors(long state, int hash, SuccessorBuffer buffer) {
+        int cell = PackedState.cell(state);
+        int row = cell / cols;
+        int col = cell % cols;
+        // A move always puts the flame out
+        int unlit = PackedState.isLighten(state) ? zobrist.toggleLight(hash) : hash;
 
-        while (!queue.isEmpty()) {
-            Node front = queue.remove();
-            OlympicState frontState = (OlympicState) front.state;
+        for (int i = 0; i < 4; ++i) {
+            int childRow = row + moveRow[i];
+            int childCol = col + moveCol[i];
 
-            expandedNodes += 1;
+            if (0 <= childRow && childRow < rows && 0 <= childCol && childCol < cols && !isPoisonous(childRow, childCol)) {
+                int childCell = childRow * cols + childCol;
 
-            if (goalTest(front.state, front.operator)) {
-                solution = front;
-                break;
+                buffer.add(PackedState.withCell(state, childCell), i, zobrist.move(unlit, cell, childCell));
             }
+        }
 
-            OlympicState childState;
-            Node child;
+        int component = componentAt(cell);
 
-            for (int i = 0; i < 4; ++i) {
-                childState = new OlympicState(
-                        new Point(frontState.position.x + moveRow[i], frontState.position.y + moveCol[i]),
-                        new ArrayList<>(frontState.remComp), false
-                );
+        if (component != -1 && PackedState.hasComponent(state, component)) {
+            buffer.add(PackedState.withoutComponent(state, component), PICK, zobrist.toggleComponent(hash, component));
+        }
 
-                if (!validOperation(childState, operators[i]) || visitedStates.contains(childState)) {
-                    continue;
-                }
+        if (cell == flameCell && !PackedState.isLighten(state) && PackedState.components(state) == 0) {
+            buffer.add(PackedState.lighten(state), LIGHT, zobrist.toggleLight(hash));
+        }
+    }
 
-                // THe minus front.pathCost here is because the heuristic and path cost both add parent cost,
-                // so we need to subtract one
-                child = new Node(childState, front, operators[i],
-                        heuristic == 1 ? heuristicOne(front, operators[i]) : heuristicTwo(front, operators[i]) +
-                        pathCost(front, operators[i]) - front.pathCost);
+    @Override
+    public int hash(long state) {
+        return zobrist.hash(state);
+    }
 
-                queue.add(child);
-                visitedStates.add(childState);
-            }
+    /**
+     * Method that generates the predecessors of a state, the reverse of successors: a reverse move to every cell jarvis
+     * could have come from, unpicking the component of the current cell if it was picked and unlighting the flame
+     */
+    @Override
+    public void predecessors(long state, SuccessorBuffer buffer) {
+        int cell = PackedState.cell(state);
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[5])) {
-                childState.isLighten = true;
+        if (PackedState.isLighten(state)) {
+            buffer.add(PackedState.unlighten(state), LIGHT);
+            return;
+        }
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[5],
-                            heuristic == 1 ? heuristicOne(front, operators[5]) : heuristicTwo(front, operators[5]) +
-                            pathCost(front, operators[5]) - front.pathCost);
+        int row = cell / cols;
+        int col = cell % cols;
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
-            }
+        for (int i = 0; i < 4; ++i) {
+            int parentRow = row - moveRow[i];
+            int parentCol = col - moveCol[i];
 
-            childState = new OlympicState(new Point(frontState.position), new ArrayList<>(frontState.remComp), false);
-            if (validOperation(childState, operators[4])) {
-                childState.remComp.remove(childState.position);
+            if (0 <= parentRow && parentRow < rows && 0 <= parentCol && parentCol < cols && !isPoisonous(parentRow, parentCol)) {
+                buffer.add(PackedState.withCell(state, parentRow * cols + parentCol), i);
+            }
+        }
 
-                if (!visitedStates.contains(childState)) {
-                    child = new Node(childState, front, operators[4],
-                            heuristic == 1 ? heuristicOne(front, operators[4]) : heuristicTwo(front, operators[4]) +
-                            pathCost(front, operators[4]) - front.pathCost);
+        int component = componentAt(cell);
 
-                    queue.add(child);
-                    visitedStates.add(childState);
-                }
-            }
+        if (component != -1 && !PackedState.hasComponent(state, component)) {
+            buffer.add(PackedState.withComponent(state, component), PICK);
         }
+    }
 
-        if (solution == null) {
-            return null;
+    /**
+     * Inverse of applyOperation, returns the state the operator was applied on to reach the passed state
+     *
+     * @return long
+     */
+    public long revertOperation(long state, int operator) {
+        int cell = PackedState.cell(state);
+
+        if (operator == PICK) {
+            return PackedState.withComponent(state, componentAt(cell));
+        } else if (operator == LIGHT) {
+            return PackedState.unlighten(state);
         }
 
-        return printSolution(solution, expandedNodes);
+        return PackedState.withCell(state, cell - moveRow[operator] * cols - moveCol[operator]);
+    }
+
+    public String BFS() {
+        return generalSearch("BF");
+    }
+
+    public String DFS() {
+        return generalSearch("DF");
+    }
+
+    public String UC() {
+        return generalSearch("UC");
+    }
+
+    public String GR(int heuristic) {
+        return generalSearch("GR" + heuristic);
+    }
+
+    public String AS(int heuristic) {
+        return generalSearch("AS" + heuristic);
     }
 }
@@ -0,0 +1,282 @@
+package code;
+
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.LongHashSet;
+import DataStructures.LongIntHashMap;
+import DataStructures.Node;
+import DataStructures.PriorityFrontier;
+import DataStructures.SuccessorBuffer;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hash distributed A* (HDA*): the state space is partitioned between worker threads by the hash of the packed state.
+ * Every worker owns the open and closed list of its partition, a generated node whose state belongs to another
+ * worker is sent to that worker through a lock free queue.
+ * The evaluation of a node has to be an upper bound of the reward any goal below it can collect, like the reward bound
+ * minus the distance estimate of Olympics.aStarEvaluator, the path cost alone leaves out the rewards of the picks and
+ * the light still ahead. Once a goal is found nodes whose bound does not beat its reward are pruned, and the search
+ * ends when every worker is idle and no message is in flight, so the open list of no worker can beat the incumbent.
+ * The calling thread runs the first worker and the executor runs the others. Workers wait for the messages of each
+ * other, so the executor has to run all of them at the same time: the default executor reuses a shared set of daemon
+ * threads that grows on demand instead of starting new threads for every search.
+ */
+public class ParallelAStarEngine extends SearchAlgorithm {
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    // Threads of the workers of every search without an executor of its own, idle threads are kept for a minute
+    private static final ExecutorService sharedWorkers = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "hda-worker-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    public final NodeEvaluator evaluator;
+    // Number of workers after leaving out the threads of the enclosing pool that are busy, see availableWorkers
+    public final int workers;
+    private final Executor executor;
+
+    private final ConcurrentLinkedQueue<Node>[] inboxes;
+    private final SearchStatistics[] workerStatistics;
+    // Messages in flight plus active workers, the search is over once it drops to zero
+    private final AtomicLong work = new AtomicLong();
+    // Best goal node found so far, its path cost is the reward to beat
+    private final AtomicReference<Node> incumbent = new AtomicReference<>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private volatile boolean done;
+
+    public ParallelAStarEngine(GenericSearchProblem problem, NodeEvaluator evaluator, int workers) {
+        this(problem, evaluator, workers, sharedWorkers);
+    }
+
+    /**
+     * @param workers Largest number of workers, fewer are used inside a busy ForkJoinPool
+     * @param executor Runs every worker but the first, must be able to run all of them at the same time
+     */
+    @SuppressWarnings("unchecked")
+    public ParallelAStarEngine(GenericSearchProblem problem, NodeEvaluator evaluator, int workers, Executor executor) {
+        super(problem);
+
+        this.evaluator = evaluator;
+        this.workers = availableWorkers(workers);
+        this.executor = executor;
+
+        inboxes = (ConcurrentLinkedQueue<Node>[]) new ConcurrentLinkedQueue<?>[workers];
+        workerStatistics = new SearchStatistics[workers];
+
+        for (int i = 0; i < this.workers; ++i) {
+            inboxes[i] = new ConcurrentLinkedQueue<>();
+            workerStatistics[i] = new SearchStatistics();
+        }
+    }
+
+    private int owner(long state) {
+        return Math.floorMod(LongHashSet.mix(state), workers);
+    }
+
+    @Override
+    public Node search() {
+        Node solution = super.search();
+
+        for (SearchStatistics worker : workerStatistics) {
+            statistics.addWorker(worker);
+        }
+
+        return solution;
+    }
+
+    @Override
+    protected Node run() {
+        Node root = new Node(problem.initialPackedState);
+
+        work.set(workers + 1);
+        inboxes[owner(root.packedState)].add(root);
+
+        CountDownLatch finished = new CountDownLatch(workers - 1);
+
+        for (int i = 1; i < workers; ++i) {
+            int id = i;
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        runWorker(id, false);
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The workers that did start would wait forever for this one
+                failure.compareAndSet(null, e);
+                done = true;
+
+                for (int j = i; j < workers; ++j) {
+                    finished.countDown();
+                }
+
+                break;
+            }
+        }
+
+        runWorker(0, true);
+
+        boolean interrupted = false;
+
+        while (finished.getCount() != 0) {
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                done = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return incumbent.get();
+    }
+
+    /**
+     * @param inline true for the worker run by the calling thread, whose time and allocations are already measured by
+     *               the statistics of the search itself
+     */
+    private void runWorker(int id, boolean inline) {
+        SearchStatistics statistics = workerStatistics[id];
+
+        if (!inline) {
+            statistics.begin();
+        }
+
+        try {
+            work(id, statistics);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            done = true;
+        }
+
+        if (!inline) {
+            statistics.end();
+        }
+    }
+
+    private void work(int id, SearchStatistics statistics) {
+        ConcurrentLinkedQueue<Node> inbox = inboxes[id];
+        PriorityFrontier open = new PriorityFrontier();
+        // Best path cost found for every state of this partition, nodes with a lower path cost are outdated
+        LongIntHashMap bestCost = new LongIntHashMap(1024);
+        SuccessorBuffer successors = new SuccessorBuffer(problem.operators.length);
+        boolean active = true;
+
+        while (!done) {
+            if (inbox.peek() != null) {
+                if (!active) {
+                    work.incrementAndGet();
+                    active = true;
+                }
+
+                Node message;
+
+                while ((message = inbox.poll()) != null) {
+                    offer(message, open, bestCost, statistics);
+                    work.decrementAndGet();
+                }
+            }
+
+            if (open.isEmpty()) {
+                if (active) {
+                    active = false;
+
+                    if (work.decrementAndGet() == 0) {
+                        done = true;
+                    }
+                } else if (work.get() == 0) {
+                    done = true;
+                } else {
+                    Thread.yield();
+                }
+
+                continue;
+            }
+
+            statistics.peakFrontierSize = Math.max(statistics.peakFrontierSize, open.size());
+
+            Node front = open.remove();
+            Node best = incumbent.get();
+
+            if (front.pathCost < bestCost.get(front.packedState, Integer.MIN_VALUE)
+                    || (best != null && front.evaluation <= best.pathCost)) {
+                continue;
+            }
+
+            statistics.expandedNodes += 1;
+
+            if (problem.goalTest(front.packedState, front.operator)) {
+                while (best == null || best.pathCost < front.pathCost) {
+                    if (incumbent.compareAndSet(best, front)) {
+                        break;
+                    }
+
+                    best = incumbent.get();
+                }
+
+                continue;
+            }
+
+            successors.clear();
+            problem.successors(front.packedState, successors);
+
+            for (int i = 0; i < successors.size; ++i) {
+                int operator = successors.operators[i];
+
+                int g = evaluator.g(front, operator);
+                int h = evaluator.h(front, operator);
+                int f = evaluator.f(front, operator, g, h);
+
+                if (best != null && f <= best.pathCost) {
+                    continue;
+                }
+
+                Node child = new Node(successors.states[i], front, operator, g, f);
+                int target = owner(child.packedState);
+
+                if (target == id) {
+                    offer(child, open, bestCost, statistics);
+                } else {
+                    work.incrementAndGet();
+                    inboxes[target].add(child);
+                }
+            }
+        }
+
+        statistics.peakVisitedSize = bestCost.size();
+    }
+
+    /**
+     * Queues a node of this worker's partition unless its state was already reached with a better path cost
+     */
+    private static void offer(Node node, PriorityFrontier open, LongIntHashMap bestCost, SearchStatistics statistics) {
+        if (node.pathCost <= bestCost.get(node.packedState, Integer.MIN_VALUE)) {
+            statistics.duplicateHits += 1;
+            return;
+        }
+
+        bestCost.put(node.packedState, node.pathCost);
+        open.add(node);
+        statistics.generatedNodes += 1;
+    }
+}
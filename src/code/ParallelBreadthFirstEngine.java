@@ -0,0 +1,199 @@
+package code;
+
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.Node;
+import DataStructures.StripedLongHashSet;
+import DataStructures.SuccessorBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Level synchronous breadth first search: the nodes of one depth are split into chunks that are expanded in parallel,
+ * every chunk writes its successors into its own buffer and the buffers are concatenated into the next depth.
+ * Duplicates are filtered against a striped visited set shared by all workers.
+ * The goal is searched for depth by depth, so the plan has the same number of steps as the one of BFS().
+ * The chunks run in the ForkJoinPool of the calling thread, like the pool of BatchSolver, or in the common pool, so a
+ * search never creates threads of its own.
+ */
+public class ParallelBreadthFirstEngine extends SearchAlgorithm {
+    // Chunks per worker, more chunks balance the work better when some nodes have more successors than others
+    private static final int CHUNKS_PER_WORKER = 4;
+    // Depths smaller than this are expanded on the calling thread
+    private static final int MIN_PARALLEL_DEPTH_SIZE = 256;
+
+    // Number of workers after leaving out the threads of the enclosing pool that are busy, see availableWorkers
+    public final int workers;
+    // Sum of the statistics of every chunk, merged into the search statistics once the search ended
+    private final SearchStatistics chunkStatistics = new SearchStatistics();
+
+    public ParallelBreadthFirstEngine(GenericSearchProblem problem, int workers) {
+        super(problem);
+
+        this.workers = availableWorkers(workers);
+    }
+
+    /**
+     * Successors of one chunk of a depth, filled by a single worker
+     */
+    private class Chunk implements Callable<Chunk> {
+        final List<Node> depth;
+        final int from;
+        final int to;
+        final StripedLongHashSet visitedStates;
+
+        // Chunks expanded on the calling thread are already measured by the statistics of the search itself
+        final Thread caller = Thread.currentThread();
+
+        final ArrayList<Node> successors = new ArrayList<>();
+        final SearchStatistics statistics = new SearchStatistics();
+        // Index of the first goal node of the chunk inside the depth, -1 if there is none
+        int goal = -1;
+
+        Chunk(List<Node> depth, int from, int to, StripedLongHashSet visitedStates) {
+            this.depth = depth;
+            this.from = from;
+            this.to = to;
+            this.visitedStates = visitedStates;
+        }
+
+        @Override
+        public Chunk call() {
+            boolean inline = Thread.currentThread() == caller;
+
+            if (!inline) {
+                statistics.begin();
+            }
+
+            SuccessorBuffer buffer = new SuccessorBuffer(problem.operators.length);
+
+            for (int i = from; i < to; ++i) {
+                Node node = depth.get(i);
+
+                statistics.expandedNodes += 1;
+
+                if (problem.goalTest(node.packedState, node.operator)) {
+                    goal = i;
+                    break;
+                }
+
+                buffer.clear();
+                problem.successors(node.packedState, buffer);
+
+                for (int j = 0; j < buffer.size; ++j) {
+                    if (!visitedStates.add(buffer.states[j])) {
+                        statistics.duplicateHits += 1;
+                        continue;
+                    }
+
+                    int operator = buffer.operators[j];
+                    successors.add(new Node(buffer.states[j], node, operator, problem.pathCost(node, operator)));
+                    statistics.generatedNodes += 1;
+                }
+            }
+
+            if (!inline) {
+                statistics.end();
+            }
+
+            return this;
+        }
+    }
+
+    @Override
+    public Node search() {
+        Node solution = super.search();
+
+        statistics.addWorker(chunkStatistics);
+
+        return solution;
+    }
+
+    @Override
+    protected Node run() {
+        StripedLongHashSet visitedStates = new StripedLongHashSet(workers * 16, problem.visitedCapacity);
+
+        Node root = new Node(problem.initialPackedState);
+        visitedStates.add(root.packedState);
+        statistics.generatedNodes += 1;
+
+        List<Node> depth = new ArrayList<>();
+        depth.add(root);
+
+        while (!depth.isEmpty()) {
+            statistics.peakFrontierSize = Math.max(statistics.peakFrontierSize, depth.size());
+
+            List<Chunk> chunks = expand(depth, visitedStates);
+
+            Node goal = null;
+            int size = 0;
+
+            for (Chunk chunk : chunks) {
+                chunkStatistics.addWorker(chunk.statistics);
+                size += chunk.successors.size();
+
+                if (goal == null && chunk.goal != -1) {
+                    goal = depth.get(chunk.goal);
+                }
+            }
+
+            if (goal != null) {
+                statistics.peakVisitedSize = visitedStates.size();
+                return goal;
+            }
+
+            List<Node> next = new ArrayList<>(size);
+
+            for (Chunk chunk : chunks) {
+                next.addAll(chunk.successors);
+            }
+
+            depth = next;
+        }
+
+        statistics.peakVisitedSize = visitedStates.size();
+
+        return null;
+    }
+
+    /**
+     * Expands every node of a depth, the returned chunks are in the order of the depth
+     */
+    private List<Chunk> expand(List<Node> depth, StripedLongHashSet visitedStates) {
+        List<Chunk> chunks = new ArrayList<>();
+
+        if (depth.size() < MIN_PARALLEL_DEPTH_SIZE || workers == 1) {
+            chunks.add(new Chunk(depth, 0, depth.size(), visitedStates).call());
+
+            return chunks;
+        }
+
+        int count = workers * CHUNKS_PER_WORKER;
+        int chunkSize = (depth.size() + count - 1) / count;
+
+        for (int from = 0; from < depth.size(); from += chunkSize) {
+            chunks.add(new Chunk(depth, from, Math.min(depth.size(), from + chunkSize), visitedStates));
+        }
+
+        List<ForkJoinTask<Chunk>> tasks = new ArrayList<>(chunks.size());
+
+        for (Chunk chunk : chunks) {
+            tasks.add(ForkJoinTask.adapt(chunk));
+        }
+
+        try {
+            if (ForkJoinTask.inForkJoinPool()) {
+                ForkJoinTask.invokeAll(tasks);
+            } else {
+                ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Parallel breadth first search failed", e);
+        }
+
+        return chunks;
+    }
+}
@@ -0,0 +1,59 @@
+package code;
+
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.Node;
+import DataStructures.NodeArena;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Base of every search strategy registered in Olympics, measures the run and records its statistics
+ */
+public abstract class SearchAlgorithm {
+    public final GenericSearchProblem problem;
+    public final SearchStatistics statistics = new SearchStatistics();
+    // Arena the parent slots of the returned node point into, null if the algorithm links nodes as objects
+    public NodeArena arena;
+
+    protected SearchAlgorithm(GenericSearchProblem problem) {
+        this.problem = problem;
+    }
+
+    /**
+     * Method that runs the search from the initial state of the problem
+     *
+     * @return The goal node or null if the goal is unreachable
+     */
+    public Node search() {
+        statistics.begin();
+
+        Node solution = run();
+
+        statistics.end();
+        statistics.solutionDepth = solution == null ? -1 : solution.depth;
+
+        return solution;
+    }
+
+    protected abstract Node run();
+
+    /**
+     * Method that returns how many workers a parallel search should use. Inside a ForkJoinPool, like the one of
+     * BatchSolver, the threads of the pool that are busy with other tasks are left out, so nested parallel searches do
+     * not multiply the threads of the pool by their workers. The calling thread always counts as one worker.
+     *
+     * @param requested Largest number of workers
+     * @return int between 1 and requested
+     */
+    protected static int availableWorkers(int requested) {
+        if (!ForkJoinTask.inForkJoinPool()) {
+            return Math.max(1, requested);
+        }
+
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int idle = pool.getParallelism() - pool.getActiveThreadCount();
+
+        return Math.max(1, Math.min(requested, idle + 1));
+    }
+}
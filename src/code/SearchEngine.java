@@ -0,0 +1,102 @@
+package code;
+
+import DataStructures.ADTs.Frontier;
+import DataStructures.ADTs.GenericSearchProblem;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.LongHashSet;
+import DataStructures.Node;
+import DataStructures.NodeArena;
+import DataStructures.SuccessorBuffer;
+
+/**
+ * Graph search shared by every strategy, a strategy is only defined by the order of its frontier and the way the
+ * generated nodes are evaluated.
+ * States are hashed incrementally, the hash of a child is derived from the hash of its parent by the problem.
+ * States are marked as visited once they are generated, so every state enters the frontier at most once, unless the
+ * frontier supports decrease-key in which case a better path to a queued state replaces the queued node.
+ * Only queued nodes are Node objects, an expanded node moves into the node arena of the thread and its children point
+ * to its slot, so the parent chains of the search are primitive arrays. The arena is cleared by the next search on the
+ * same thread, the solution has to be printed before that.
+ */
+public class SearchEngine extends SearchAlgorithm {
+    // Node arena of every thread, reused by all the searches the thread runs
+    private static final ThreadLocal<NodeArena> arenas = ThreadLocal.withInitial(NodeArena::new);
+
+    public final Frontier frontier;
+    public final NodeEvaluator evaluator;
+
+    public SearchEngine(GenericSearchProblem problem, Frontier frontier, NodeEvaluator evaluator) {
+        super(problem);
+
+        this.frontier = frontier;
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    protected Node run() {
+        LongHashSet visitedStates = new LongHashSet(problem.visitedCapacity, problem::hash);
+        SuccessorBuffer successors = new SuccessorBuffer(problem.operators.length);
+
+        arena = arenas.get();
+        arena.clear();
+
+        Node root = new Node(problem.initialPackedState);
+        root.hash = problem.hash(root.packedState);
+        frontier.add(root);
+        visitedStates.add(root.packedState, root.hash);
+        statistics.generatedNodes += 1;
+
+        while (!frontier.isEmpty()) {
+            statistics.peakFrontierSize = Math.max(statistics.peakFrontierSize, frontier.size());
+
+            Node front = frontier.remove();
+
+            statistics.expandedNodes += 1;
+
+            if (problem.goalTest(front.packedState, front.operator)) {
+                statistics.peakVisitedSize = visitedStates.size();
+                return front;
+            }
+
+            int slot = arena.add(front.packedState, front.parentSlot, front.operator, front.pathCost, front.evaluation);
+
+            successors.clear();
+            problem.successors(front.packedState, front.hash, successors);
+
+            for (int i = 0; i < successors.size; ++i) {
+                long childState = successors.states[i];
+                int hash = successors.hashes[i];
+
+                // add returns false if the state was visited before, a node is only created for new states or for
+                // states whose queued node gets improved
+                boolean duplicate = !visitedStates.add(childState, hash);
+
+                if (duplicate && !frontier.decreasesKey()) {
+                    statistics.duplicateHits += 1;
+                    continue;
+                }
+
+                int operator = successors.operators[i];
+
+                int g = evaluator.g(front, operator);
+                int h = evaluator.h(front, operator);
+                int f = evaluator.f(front, operator, g, h);
+
+                if (duplicate && !frontier.improves(childState, f)) {
+                    statistics.duplicateHits += 1;
+                    continue;
+                }
+
+                Node child = new Node(childState, slot, operator, front.depth + 1, g, f);
+                child.hash = hash;
+
+                frontier.add(child);
+                statistics.generatedNodes += 1;
+            }
+        }
+
+        statistics.peakVisitedSize = visitedStates.size();
+
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package code;
+
+/**
+ * Plan returned by Olympics.solve together with the metrics of the search that produced it
+ */
+public class SearchResult {
+    // Same string Olympics.solve returns
+    public final String solution;
+    // null if the strategy is unknown or the solution was cached
+    public final SearchStatistics statistics;
+    // true if the solution was returned by the solution cache instead of a search
+    public final boolean cached;
+
+    public SearchResult(String solution, SearchStatistics statistics) {
+        this(solution, statistics, false);
+    }
+
+    public SearchResult(String solution, SearchStatistics statistics, boolean cached) {
+        this.solution = solution;
+        this.statistics = statistics;
+        this.cached = cached;
+    }
+}
@@ -0,0 +1,144 @@
+package code;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Metrics of a single search run, filled by the search engine while it runs.
+ * CPU time and allocated bytes are measured on the searching thread and stay -1 if the JVM does not support them.
+ */
+public class SearchStatistics {
+    public long generatedNodes;
+    public long expandedNodes;
+    // Successors that were dropped because their state was generated before
+    public long duplicateHits;
+    public int peakFrontierSize;
+    public int peakVisitedSize;
+    // Depth of the goal node, -1 if no solution was found
+    public int solutionDepth = -1;
+    public long wallTimeNanos;
+    public long cpuTimeNanos = -1;
+    public long allocatedBytes = -1;
+
+    private long wallStart;
+    private long cpuStart;
+    private long allocatedStart;
+
+    private static ThreadMXBean threads() {
+        return ManagementFactory.getThreadMXBean();
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = threads();
+
+        if (threads instanceof com.sun.management.ThreadMXBean allocation && allocation.isThreadAllocatedMemorySupported()
+                && allocation.isThreadAllocatedMemoryEnabled()) {
+            return allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return -1;
+    }
+
+    private static long cpuTime() {
+        ThreadMXBean threads = threads();
+
+        if (threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled()) {
+            return threads.getCurrentThreadCpuTime();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Starts measuring time and allocations of the current thread
+     */
+    public void begin() {
+        allocatedStart = allocatedBytes();
+        cpuStart = cpuTime();
+        wallStart = System.nanoTime();
+    }
+
+    /**
+     * Stops measuring, must be called on the same thread as begin()
+     */
+    public void end() {
+        wallTimeNanos = System.nanoTime() - wallStart;
+
+        long cpuEnd = cpuTime();
+        cpuTimeNanos = cpuStart == -1 || cpuEnd == -1 ? -1 : cpuEnd - cpuStart;
+
+        long allocatedEnd = allocatedBytes();
+        allocatedBytes = allocatedStart == -1 || allocatedEnd == -1 ? -1 : allocatedEnd - allocatedStart;
+    }
+
+    /**
+     * Adds the counters, CPU time and allocations of a worker thread that took part in the same search, must be called
+     * after end() as end() overwrites the CPU time and allocations.
+     * Peak sizes are summed as well since every worker owns a separate frontier and closed list.
+     */
+    public void addWorker(SearchStatistics worker) {
+        generatedNodes += worker.generatedNodes;
+        expandedNodes += worker.expandedNodes;
+        duplicateHits += worker.duplicateHits;
+        peakFrontierSize += worker.peakFrontierSize;
+        peakVisitedSize += worker.peakVisitedSize;
+
+        if (worker.cpuTimeNanos != -1) {
+            cpuTimeNanos = Math.max(cpuTimeNanos, 0) + worker.cpuTimeNanos;
+        }
+
+        if (worker.allocatedBytes != -1) {
+            allocatedBytes = Math.max(allocatedBytes, 0) + worker.allocatedBytes;
+        }
+    }
+
+    /**
+     * Method that returns the branching factor b* a uniform tree of the solution depth would need to contain the
+     * generated nodes: generatedNodes = 1 + b* + b*^2 + ... + b*^depth, solved by bisection
+     *
+     * @return double, 0 if no solution was found
+     */
+    public double effectiveBranchingFactor() {
+        if (solutionDepth <= 0) {
+            return 0;
+        }
+
+        double low = 1;
+        double high = Math.max(1, generatedNodes);
+
+        for (int i = 0; i < 100; ++i) {
+            double middle = (low + high) / 2;
+            double nodes = 1;
+            double level = 1;
+
+            for (int depth = 1; depth <= solutionDepth && nodes <= generatedNodes; ++depth) {
+                level *= middle;
+                nodes += level;
+            }
+
+            if (nodes > generatedNodes) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchStatistics{" +
+                "generatedNodes=" + generatedNodes +
+                ", expandedNodes=" + expandedNodes +
+                ", duplicateHits=" + duplicateHits +
+                ", peakFrontierSize=" + peakFrontierSize +
+                ", peakVisitedSize=" + peakVisitedSize +
+                ", solutionDepth=" + solutionDepth +
+                ", effectiveBranchingFactor=" + effectiveBranchingFactor() +
+                ", wallTimeNanos=" + wallTimeNanos +
+                ", cpuTimeNanos=" + cpuTimeNanos +
+                ", allocatedBytes=" + allocatedBytes +
+                '}';
+    }
+}
@@ -0,0 +1,285 @@
+package code;
+
+import DataStructures.CompiledProblem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of solutions keyed by the digest of the compiled grid plus the strategy, so descriptions of the same grid
+ * share their entries whatever their whitespace or origin.
+ * The memory tier is a least recently used map bounded to a number of entries. The optional disk tier is an append
+ * only file of checksummed records that survives the process: an entry is only appended once, the file is indexed
+ * when the cache is opened and a disk hit is read back by its offset and promoted to the memory tier.
+ * A record is the length of its payload, the CRC32 of its payload and the payload, the UTF-8 key and solution
+ * separated by a line break. Every append is forced to the storage device before put returns, so a solution put
+ * in the disk tier survives a crash of the process or of the machine. A crash during an append can only leave a torn
+ * last record, which fails its checksum when the file is indexed and is cut off, every record before it stays
+ * readable.
+ * The memory tier is bounded but the index of the disk tier is not: it keeps the offset of every distinct key of the
+ * file in memory, about two hundred bytes per key, for as long as the cache is open.
+ * A cached solution is returned for as long as the cache lives, replacing a strategy with Olympics.registerStrategy
+ * does not invalidate it.
+ */
+public class SolutionCache implements AutoCloseable {
+    private static final int RECORD_HEADER = 2 * Integer.BYTES;
+
+    private final int capacity;
+    private final LinkedHashMap<String, String> memory;
+    // null without a disk tier
+    private final FileChannel file;
+    // Offset of the record of every key of the file, one entry per distinct key stored on disk
+    private final HashMap<String, Long> fileIndex = new HashMap<>();
+    private long fileSize;
+
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Cache with only a memory tier
+     *
+     * @param capacity Number of entries kept in memory
+     */
+    public SolutionCache(int capacity) {
+        this.capacity = capacity;
+        this.memory = memoryTier();
+        this.file = null;
+    }
+
+    /**
+     * Cache with a memory tier and a disk tier, the file is created if it does not exist and locked until close()
+     *
+     * @param capacity Number of entries kept in memory
+     * @param path Append only file of the disk tier
+     */
+    public SolutionCache(int capacity, Path path) throws IOException {
+        this.capacity = capacity;
+        this.memory = memoryTier();
+        this.file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (file.tryLock() == null) {
+                throw new IOException("The solution cache file is used by another process");
+            }
+
+            index();
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    private LinkedHashMap<String, String> memoryTier() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                if (size() > capacity) {
+                    evictions += 1;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Reads every record of the file, the file is truncated after the last record with a valid checksum
+     */
+    private void index() throws IOException {
+        long size = file.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+
+        while (offset + RECORD_HEADER <= size) {
+            header.clear();
+            readFully(header, offset);
+
+            int length = header.getInt(0);
+            int checksum = header.getInt(Integer.BYTES);
+
+            if (length < 0 || offset + RECORD_HEADER + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, offset + RECORD_HEADER);
+
+            if (checksum(payload.array()) != checksum) {
+                break;
+            }
+
+            String record = new String(payload.array(), StandardCharsets.UTF_8);
+            int separator = record.indexOf('\n');
+
+            if (separator < 0) {
+                break;
+            }
+
+            fileIndex.put(record.substring(0, separator), offset);
+
+            offset += RECORD_HEADER + length;
+        }
+
+        if (offset != size) {
+            file.truncate(offset);
+        }
+
+        fileSize = offset;
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the solution cache file");
+            }
+        }
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * @return Key of a problem and strategy
+     */
+    public static String key(CompiledProblem problem, String strategy) {
+        return problem.digest() + '/' + strategy;
+    }
+
+    /**
+     * @return Cached solution or null
+     */
+    public String get(CompiledProblem problem, String strategy) {
+        return get(key(problem, strategy));
+    }
+
+    /**
+     * @param key Key returned by key(CompiledProblem, String)
+     * @return Cached solution or null
+     */
+    public synchronized String get(String key) {
+        String solution = memory.get(key);
+
+        if (solution != null) {
+            hits += 1;
+            return solution;
+        }
+
+        Long offset = fileIndex.get(key);
+
+        if (offset == null) {
+            misses += 1;
+            return null;
+        }
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+            readFully(header, offset);
+
+            ByteBuffer payload = ByteBuffer.allocate(header.getInt(0));
+            readFully(payload, offset + RECORD_HEADER);
+
+            String record = new String(payload.array(), StandardCharsets.UTF_8);
+            solution = record.substring(record.indexOf('\n') + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        diskHits += 1;
+        memory.put(key, solution);
+
+        return solution;
+    }
+
+    /**
+     * Caches a solution in memory and appends it to the disk tier if the key is not stored there yet, the record is
+     * on the storage device when the method returns
+     */
+    public void put(CompiledProblem problem, String strategy, String solution) {
+        put(key(problem, strategy), solution);
+    }
+
+    /**
+     * Same as put(CompiledProblem, String, String) with the key already computed
+     */
+    public synchronized void put(String key, String solution) {
+        memory.put(key, solution);
+
+        if (file == null || fileIndex.containsKey(key)) {
+            return;
+        }
+
+        byte[] payload = (key + '\n' + solution).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + payload.length);
+
+        record.putInt(payload.length).putInt(checksum(payload)).put(payload).flip();
+
+        try {
+            while (record.hasRemaining()) {
+                file.write(record, fileSize + record.position());
+            }
+
+            file.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        fileIndex.put(key, fileSize);
+        fileSize += RECORD_HEADER + payload.length;
+    }
+
+    /**
+     * Lookups answered by the memory tier
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Lookups answered by the disk tier
+     */
+    public synchronized long diskHits() {
+        return diskHits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Entries dropped from the memory tier, they stay in the disk tier
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return Number of entries of the memory tier
+     */
+    public synchronized int size() {
+        return memory.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (file != null) {
+            file.force(false);
+            file.close();
+        }
+    }
+}
@@ -6,7 +6,34 @@ import org.junit.runners.MethodSorters;
 
 
 // Make the Olympics class is in a package called "code" 
+import code.BatchSolver;
 import code.Olympics;
+import code.ParallelAStarEngine;
+import code.ParallelBreadthFirstEngine;
+import code.SearchEngine;
+import code.SearchResult;
+import code.SearchStatistics;
+import code.SolutionCache;
+import DataStructures.ADTs.NodeEvaluator;
+import DataStructures.BucketFrontier;
+import DataStructures.CompiledProblem;
+import DataStructures.GridCorpus;
+import DataStructures.GridFormatException;
+import DataStructures.Node;
+import DataStructures.NodeArena;
+import DataStructures.PackedState;
+import DataStructures.PriorityFrontier;
+import DataStructures.SuccessorBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 
@@ -612,48 +639,2112 @@ public class TestOlympics {
 	}
 	
 
-	private boolean applyPlan(String grid, String solution) {
-		char[][] g = convertToGrid(grid);
-		String plan = solution.split(";")[0];
-		plan.replace(" ", "");
-		plan.replace("\n", "");
-		plan.replace("\r", "");
-		plan.replace("\n\r", "");
-		plan.replace("\t", "");
-		String[] actions = plan.split(",");
-		String[] gridArray=  grid.split(";");
-		String[] jarvis = gridArray[1].split(",");
-
-		int componentsNum  = (gridArray[3].split(",").length)/2;
-		int[] result = new int[3];
-		result[0] = Integer.parseInt(jarvis[0]);
-		result[1] = Integer.parseInt(jarvis[1]);
-		result[2] = componentsNum;
-		for (int i = 0; i < actions.length; i++) {
-			switch (actions[i]) {
-			case "up":
-				applyUp(g, result);
-				break;
-			case "down":
-				applyDown(g, result);
-				break;
-			case "right":
-				applyRight(g, result);
-				break;
-			case "left":
-				applyLeft(g, result);
-				break;
-			case "pick":
-				applyPick(g, result);
-				break;
-			case "light":
-				applyLight(g, result);
-				break;
+	@Test(timeout = 70000)
+	public void testi1() throws Exception {
+		String[] grids = {grid5, grid6, grid7, grid8, grid9, grid10, grid11, grid12, grid13, grid14, grid15};
+		List<BatchSolver.Job> jobs = new ArrayList<>();
+		for (String grid : grids) {
+			jobs.add(new BatchSolver.Job(grid, "AS1"));
+			jobs.add(new BatchSolver.Job(grid, "UC"));
+		}
+		try (BatchSolver solver = new BatchSolver(4)) {
+			BatchSolver.BatchResult batch = solver.solve(jobs);
+			assertEquals(jobs.size(), batch.results.size());
+			for (int i = 0; i < jobs.size(); i++) {
+				String solution = batch.results.get(i).solution.replace(" ", "");
+				assertTrue("The output actions do not lead to a goal state.", applyPlan(jobs.get(i).grid(), solution));
 			}
 		}
-		return done(result);
+	}
+
+	@Test(timeout = 70000)
+	public void testj1() throws Exception {
+		String solution = Olympics.solve(grid5, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj2() throws Exception {
+		String solution = Olympics.solve(grid6, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj3() throws Exception {
+		String solution = Olympics.solve(grid7, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj4() throws Exception {
+		String solution = Olympics.solve(grid8, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj5() throws Exception {
+		String solution = Olympics.solve(grid9, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj6() throws Exception {
+		String solution = Olympics.solve(grid10, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj7() throws Exception {
+		String solution = Olympics.solve(grid11, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj8() throws Exception {
+		String solution = Olympics.solve(grid12, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj9() throws Exception {
+		String solution = Olympics.solve(grid13, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj10() throws Exception {
+		String solution = Olympics.solve(grid14, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testj11() throws Exception {
+		String solution = Olympics.solve(grid15, "PAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk1() throws Exception {
+		String solution = Olympics.solve(grid5, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk2() throws Exception {
+		String solution = Olympics.solve(grid6, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk3() throws Exception {
+		String solution = Olympics.solve(grid7, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk4() throws Exception {
+		String solution = Olympics.solve(grid8, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk5() throws Exception {
+		String solution = Olympics.solve(grid9, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk6() throws Exception {
+		String solution = Olympics.solve(grid10, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk7() throws Exception {
+		String solution = Olympics.solve(grid11, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk8() throws Exception {
+		String solution = Olympics.solve(grid12, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk9() throws Exception {
+		String solution = Olympics.solve(grid13, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk10() throws Exception {
+		String solution = Olympics.solve(grid14, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testk11() throws Exception {
+		String solution = Olympics.solve(grid15, "PAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl1() throws Exception {
+		String solution = Olympics.solve(grid5, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl2() throws Exception {
+		String solution = Olympics.solve(grid6, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl3() throws Exception {
+		String solution = Olympics.solve(grid7, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl4() throws Exception {
+		String solution = Olympics.solve(grid8, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl5() throws Exception {
+		String solution = Olympics.solve(grid9, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl6() throws Exception {
+		String solution = Olympics.solve(grid10, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl7() throws Exception {
+		String solution = Olympics.solve(grid11, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl8() throws Exception {
+		String solution = Olympics.solve(grid12, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl9() throws Exception {
+		String solution = Olympics.solve(grid13, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl10() throws Exception {
+		String solution = Olympics.solve(grid14, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testl11() throws Exception {
+		String solution = Olympics.solve(grid15, "PBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm1() throws Exception {
+		String solution = Olympics.solve(grid5, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm2() throws Exception {
+		String solution = Olympics.solve(grid6, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm3() throws Exception {
+		String solution = Olympics.solve(grid7, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm4() throws Exception {
+		String solution = Olympics.solve(grid8, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm5() throws Exception {
+		String solution = Olympics.solve(grid9, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm6() throws Exception {
+		String solution = Olympics.solve(grid10, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testm7() throws Exception {
+		String solution = Olympics.solve(grid11, "ID", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn1() throws Exception {
+		String solution = Olympics.solve(grid5, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn2() throws Exception {
+		String solution = Olympics.solve(grid6, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn3() throws Exception {
+		String solution = Olympics.solve(grid7, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
 	}
 	
+	@Test(timeout = 70000)
+	public void testn4() throws Exception {
+		String solution = Olympics.solve(grid8, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn5() throws Exception {
+		String solution = Olympics.solve(grid9, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn6() throws Exception {
+		String solution = Olympics.solve(grid10, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testn7() throws Exception {
+		String solution = Olympics.solve(grid11, "IDA1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo1() throws Exception {
+		String solution = Olympics.solve(grid5, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo2() throws Exception {
+		String solution = Olympics.solve(grid6, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo3() throws Exception {
+		String solution = Olympics.solve(grid7, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo4() throws Exception {
+		String solution = Olympics.solve(grid8, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo5() throws Exception {
+		String solution = Olympics.solve(grid9, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo6() throws Exception {
+		String solution = Olympics.solve(grid10, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testo7() throws Exception {
+		String solution = Olympics.solve(grid11, "IDA2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp1() throws Exception {
+		String solution = Olympics.solve(grid5, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp2() throws Exception {
+		String solution = Olympics.solve(grid6, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp3() throws Exception {
+		String solution = Olympics.solve(grid7, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp4() throws Exception {
+		String solution = Olympics.solve(grid8, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp5() throws Exception {
+		String solution = Olympics.solve(grid9, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp6() throws Exception {
+		String solution = Olympics.solve(grid10, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp7() throws Exception {
+		String solution = Olympics.solve(grid11, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp8() throws Exception {
+		String solution = Olympics.solve(grid12, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp9() throws Exception {
+		String solution = Olympics.solve(grid13, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp10() throws Exception {
+		String solution = Olympics.solve(grid14, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testp11() throws Exception {
+		String solution = Olympics.solve(grid15, "BBF", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq1() throws Exception {
+		String solution = Olympics.solve(grid5, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq2() throws Exception {
+		String solution = Olympics.solve(grid6, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq3() throws Exception {
+		String solution = Olympics.solve(grid7, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq4() throws Exception {
+		String solution = Olympics.solve(grid8, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq5() throws Exception {
+		String solution = Olympics.solve(grid9, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq6() throws Exception {
+		String solution = Olympics.solve(grid10, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq7() throws Exception {
+		String solution = Olympics.solve(grid11, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq8() throws Exception {
+		String solution = Olympics.solve(grid12, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq9() throws Exception {
+		String solution = Olympics.solve(grid13, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq10() throws Exception {
+		String solution = Olympics.solve(grid14, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testq11() throws Exception {
+		String solution = Olympics.solve(grid15, "BAS1", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr1() throws Exception {
+		String solution = Olympics.solve(grid5, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr2() throws Exception {
+		String solution = Olympics.solve(grid6, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr3() throws Exception {
+		String solution = Olympics.solve(grid7, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr4() throws Exception {
+		String solution = Olympics.solve(grid8, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr5() throws Exception {
+		String solution = Olympics.solve(grid9, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr6() throws Exception {
+		String solution = Olympics.solve(grid10, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr7() throws Exception {
+		String solution = Olympics.solve(grid11, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr8() throws Exception {
+		String solution = Olympics.solve(grid12, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr9() throws Exception {
+		String solution = Olympics.solve(grid13, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr10() throws Exception {
+		String solution = Olympics.solve(grid14, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testr11() throws Exception {
+		String solution = Olympics.solve(grid15, "BAS2", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests1() throws Exception {
+		String solution = Olympics.solve(grid5, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests2() throws Exception {
+		String solution = Olympics.solve(grid6, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests3() throws Exception {
+		String solution = Olympics.solve(grid7, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests4() throws Exception {
+		String solution = Olympics.solve(grid8, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests5() throws Exception {
+		String solution = Olympics.solve(grid9, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests6() throws Exception {
+		String solution = Olympics.solve(grid10, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests7() throws Exception {
+		String solution = Olympics.solve(grid11, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests8() throws Exception {
+		String solution = Olympics.solve(grid12, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests9() throws Exception {
+		String solution = Olympics.solve(grid13, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests10() throws Exception {
+		String solution = Olympics.solve(grid14, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void tests11() throws Exception {
+		String solution = Olympics.solve(grid15, "GR3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt1() throws Exception {
+		String solution = Olympics.solve(grid5, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt2() throws Exception {
+		String solution = Olympics.solve(grid6, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt3() throws Exception {
+		String solution = Olympics.solve(grid7, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt4() throws Exception {
+		String solution = Olympics.solve(grid8, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt5() throws Exception {
+		String solution = Olympics.solve(grid9, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt6() throws Exception {
+		String solution = Olympics.solve(grid10, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt7() throws Exception {
+		String solution = Olympics.solve(grid11, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt8() throws Exception {
+		String solution = Olympics.solve(grid12, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt9() throws Exception {
+		String solution = Olympics.solve(grid13, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt10() throws Exception {
+		String solution = Olympics.solve(grid14, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testt11() throws Exception {
+		String solution = Olympics.solve(grid15, "AS3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu1() throws Exception {
+		String solution = Olympics.solve(grid5, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu2() throws Exception {
+		String solution = Olympics.solve(grid6, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu3() throws Exception {
+		String solution = Olympics.solve(grid7, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu4() throws Exception {
+		String solution = Olympics.solve(grid8, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu5() throws Exception {
+		String solution = Olympics.solve(grid9, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu6() throws Exception {
+		String solution = Olympics.solve(grid10, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu7() throws Exception {
+		String solution = Olympics.solve(grid11, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu8() throws Exception {
+		String solution = Olympics.solve(grid12, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu9() throws Exception {
+		String solution = Olympics.solve(grid13, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu10() throws Exception {
+		String solution = Olympics.solve(grid14, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testu11() throws Exception {
+		String solution = Olympics.solve(grid15, "IDA3", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv1() throws Exception {
+		String solution = Olympics.solve(grid5, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv2() throws Exception {
+		String solution = Olympics.solve(grid6, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv3() throws Exception {
+		String solution = Olympics.solve(grid7, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv4() throws Exception {
+		String solution = Olympics.solve(grid8, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv5() throws Exception {
+		String solution = Olympics.solve(grid9, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv6() throws Exception {
+		String solution = Olympics.solve(grid10, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv7() throws Exception {
+		String solution = Olympics.solve(grid11, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv8() throws Exception {
+		String solution = Olympics.solve(grid12, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv9() throws Exception {
+		String solution = Olympics.solve(grid13, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv10() throws Exception {
+		String solution = Olympics.solve(grid14, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testv11() throws Exception {
+		String solution = Olympics.solve(grid15, "DP", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testw1() throws Exception {
+		String first = Olympics.solve(grid15, "AS3", false);
+		long misses = Olympics.heuristicCache(grid15).misses();
+		long hits = Olympics.heuristicCache(grid15).hits();
+
+		String second = Olympics.solve(grid15, "AS3", false);
+
+		assertEquals(first, second);
+		assertEquals(misses, Olympics.heuristicCache(grid15).misses());
+		assertTrue(Olympics.heuristicCache(grid15).hits() > hits);
+	}
+	
+	@Test(timeout = 70000)
+	public void testx1() throws Exception {
+		NodeArena arena = new NodeArena();
+		int nodes = 100000;
+		
+		for (int i = 0; i < nodes; ++i) {
+			assertEquals(i, arena.add(i * 31L, i - 1, i % 6, -i, i));
+		}
+		
+		for (int i = 0; i < nodes; ++i) {
+			assertEquals(i * 31L, arena.packedState(i));
+			assertEquals(i - 1, arena.parent(i));
+			assertEquals(i % 6, arena.operator(i));
+			assertEquals(-i, arena.pathCost(i));
+			assertEquals(i, arena.evaluation(i));
+		}
+		
+		int capacity = arena.capacity();
+		arena.clear();
+		
+		assertEquals(0, arena.size());
+		assertEquals(0, arena.add(7L, NodeArena.NO_PARENT, 0, 0, 0));
+		assertEquals(capacity, arena.capacity());
+		assertEquals(Olympics.solve(grid15, "BF", false), Olympics.solve(grid15, "BF", false));
+	}
+	
+	@Test(timeout = 70000)
+	public void testx2() throws Exception {
+		Olympics olympics = new Olympics(grid15);
+		SuccessorBuffer successors = new SuccessorBuffer(Olympics.operators.length);
+		ArrayList<Long> states = new ArrayList<>();
+		states.add(olympics.initialPackedState);
+		
+		for (int i = 0; i < states.size() && states.size() < 5000; ++i) {
+			long state = states.get(i);
+			successors.clear();
+			olympics.successors(state, olympics.hash(state), successors);
+			
+			for (int j = 0; j < successors.size; ++j) {
+				assertEquals(olympics.hash(successors.states[j]), successors.hashes[j]);
+				states.add(successors.states[j]);
+			}
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testx3() throws Exception {
+		CompiledProblem compiled = CompiledProblem.compile(grid5);
+		assertEquals(5, compiled.rows);
+		assertEquals(5, compiled.cols);
+		assertEquals(1 * 5 + 2, compiled.jarvisCell);
+		assertEquals(3 * 5 + 2, compiled.flameCell);
+		assertEquals(5, compiled.componentCount);
+		assertEquals(1, compiled.componentAt(2 * 5 + 1));
+		assertTrue(compiled.isObstacle(4 * 5 + 2));
+		assertEquals(Olympics.solve(grid5, "BF", false), Olympics.solveWithStatistics(compiled, "BF", false).solution);
+		
+		assertEquals(6, gridError("5,5;1,x;3,2;0,3;0,1"));
+		assertEquals(8, gridError("5,5;1,2;5,2;0,3;0,1"));
+		assertEquals(16, gridError("5,5;1,2;3,2;0,3,0,3;0,1"));
+		assertEquals(19, gridError("5,5;1,2;3,2;0,3;0,1;"));
+		assertEquals(16, gridError("5,5;1,2;3,2;0,3;0,3"));
+		assertEquals(15, gridError("5,5;1,2;3,2;0,3"));
+	}
+	
+	@Test(timeout = 70000)
+	public void testx4() throws Exception {
+		String[] grids = {grid5, grid6, grid7, grid8, grid9, grid10, grid11, grid12, grid13, grid14, grid15};
+		Path text = Files.createTempFile("grids", ".txt");
+		Path corpus = Files.createTempFile("grids", ".olyg");
+		
+		try {
+			Files.write(text, Arrays.asList(grids));
+			assertEquals(grids.length, GridCorpus.convert(text, corpus));
+			
+			try (GridCorpus problems = GridCorpus.open(corpus)) {
+				int i = 0;
+				
+				for (CompiledProblem problem : problems) {
+					assertEquals(grids[i], new BatchSolver.Job(problem, "AS2").grid());
+					assertEquals(grids[i], problem.grid());
+					assertEquals(CompiledProblem.compile(grids[i]), problem);
+					
+					if (i == 0) {
+						assertEquals(Olympics.solve(grids[i], "AS2", false), Olympics.solveWithStatistics(problem, "AS2", false).solution);
+					}
+					
+					i += 1;
+				}
+				
+				assertEquals(grids.length, i);
+			}
+			
+			Files.write(text, Arrays.asList(grid5, "5,5;1,2;3,2;0,3,2,1;0,1,9,9"));
+			
+			try {
+				GridCorpus.convert(text, corpus);
+				fail("The second line is outside of the grid");
+			} catch (GridFormatException e) {
+				assertEquals(grid5.length() + 1 + 24, e.offset);
+			}
+		} finally {
+			Files.delete(text);
+			Files.delete(corpus);
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testx5() throws Exception {
+		Path file = Files.createTempFile("solutions", ".cache");
+		String first = Olympics.solve(grid15, "AS1", false);
+		
+		try (SolutionCache cache = new SolutionCache(1, file)) {
+			Olympics.setSolutionCache(cache);
+			
+			assertEquals(first, Olympics.solve(grid15, "AS1", false));
+			assertEquals(first, Olympics.solve(" " + grid15 + " ", "AS1", false));
+			assertTrue(Olympics.solveWithStatistics(grid15, "AS1", false).cached);
+			assertEquals(1, cache.misses());
+			assertEquals(2, cache.hits());
+			
+			Olympics.solve(grid5, "AS1", false);
+			assertEquals(1, cache.evictions());
+			assertEquals(first, Olympics.solve(grid15, "AS1", false));
+			assertEquals(1, cache.diskHits());
+		} finally {
+			Olympics.setSolutionCache(null);
+		}
+		
+		// A torn record at the end of the file is dropped when the cache is opened again
+		Files.write(file, new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+		long size = Files.size(file);
+		
+		try (SolutionCache cache = new SolutionCache(16, file)) {
+			assertEquals(size - 6, Files.size(file));
+			assertEquals(first, cache.get(CompiledProblem.compile(grid15), "AS1"));
+			assertEquals(1, cache.diskHits());
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testy1() throws Exception {
+		String solution = Olympics.solve(grid5, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy2() throws Exception {
+		String solution = Olympics.solve(grid6, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy3() throws Exception {
+		String solution = Olympics.solve(grid7, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy4() throws Exception {
+		String solution = Olympics.solve(grid8, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy5() throws Exception {
+		String solution = Olympics.solve(grid9, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy6() throws Exception {
+		String solution = Olympics.solve(grid10, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy7() throws Exception {
+		String solution = Olympics.solve(grid11, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy8() throws Exception {
+		String solution = Olympics.solve(grid12, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy9() throws Exception {
+		String solution = Olympics.solve(grid13, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy10() throws Exception {
+		String solution = Olympics.solve(grid14, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testy11() throws Exception {
+		String solution = Olympics.solve(grid15, "UC", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+		@Test(timeout = 70000)
+	public void testz1() throws Exception {
+		Olympics olympics = new Olympics(grid14);
+		assertEquals(Olympics.DEFAULT_VISITED_CAPACITY, olympics.visitedCapacity);
+		
+		olympics.reserveStateSpace();
+		assertEquals(Olympics.MAX_VISITED_CAPACITY, olympics.visitedCapacity);
+		assertEquals(Olympics.solve(grid14, "GR1", false), olympics.generalSearch("GR1"));
+		
+		// A search that expands a few hundred nodes does not allocate a closed list for the whole state space
+		SearchResult result = Olympics.solveWithStatistics(grid14, "GR1", false);
+		
+		if (result.statistics.allocatedBytes != -1) {
+			assertTrue(result.statistics.allocatedBytes < (1 << 22));
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testza1() throws Exception {
+		String solution = Olympics.solve(grid5, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza2() throws Exception {
+		String solution = Olympics.solve(grid6, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza3() throws Exception {
+		String solution = Olympics.solve(grid7, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza4() throws Exception {
+		String solution = Olympics.solve(grid8, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza5() throws Exception {
+		String solution = Olympics.solve(grid9, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza6() throws Exception {
+		String solution = Olympics.solve(grid10, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza7() throws Exception {
+		String solution = Olympics.solve(grid11, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza8() throws Exception {
+		String solution = Olympics.solve(grid12, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza9() throws Exception {
+		String solution = Olympics.solve(grid13, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza10() throws Exception {
+		String solution = Olympics.solve(grid14, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testza11() throws Exception {
+		String solution = Olympics.solve(grid15, "UC-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "BF", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb1() throws Exception {
+		String solution = Olympics.solve(grid5, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb2() throws Exception {
+		String solution = Olympics.solve(grid6, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb3() throws Exception {
+		String solution = Olympics.solve(grid7, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb4() throws Exception {
+		String solution = Olympics.solve(grid8, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb5() throws Exception {
+		String solution = Olympics.solve(grid9, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb6() throws Exception {
+		String solution = Olympics.solve(grid10, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb7() throws Exception {
+		String solution = Olympics.solve(grid11, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb8() throws Exception {
+		String solution = Olympics.solve(grid12, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb9() throws Exception {
+		String solution = Olympics.solve(grid13, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb10() throws Exception {
+		String solution = Olympics.solve(grid14, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzb11() throws Exception {
+		String solution = Olympics.solve(grid15, "GR1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc1() throws Exception {
+		String solution = Olympics.solve(grid5, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc2() throws Exception {
+		String solution = Olympics.solve(grid6, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc3() throws Exception {
+		String solution = Olympics.solve(grid7, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc4() throws Exception {
+		String solution = Olympics.solve(grid8, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc5() throws Exception {
+		String solution = Olympics.solve(grid9, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc6() throws Exception {
+		String solution = Olympics.solve(grid10, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc7() throws Exception {
+		String solution = Olympics.solve(grid11, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc8() throws Exception {
+		String solution = Olympics.solve(grid12, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc9() throws Exception {
+		String solution = Olympics.solve(grid13, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc10() throws Exception {
+		String solution = Olympics.solve(grid14, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzc11() throws Exception {
+		String solution = Olympics.solve(grid15, "GR2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd1() throws Exception {
+		String solution = Olympics.solve(grid5, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd2() throws Exception {
+		String solution = Olympics.solve(grid6, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd3() throws Exception {
+		String solution = Olympics.solve(grid7, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd4() throws Exception {
+		String solution = Olympics.solve(grid8, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd5() throws Exception {
+		String solution = Olympics.solve(grid9, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd6() throws Exception {
+		String solution = Olympics.solve(grid10, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd7() throws Exception {
+		String solution = Olympics.solve(grid11, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd8() throws Exception {
+		String solution = Olympics.solve(grid12, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd9() throws Exception {
+		String solution = Olympics.solve(grid13, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd10() throws Exception {
+		String solution = Olympics.solve(grid14, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testzd11() throws Exception {
+		String solution = Olympics.solve(grid15, "AS1-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "AS1", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze1() throws Exception {
+		String solution = Olympics.solve(grid5, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid5, solution));
+		assertEquals(planLength(Olympics.solve(grid5, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze2() throws Exception {
+		String solution = Olympics.solve(grid6, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid6, solution));
+		assertEquals(planLength(Olympics.solve(grid6, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze3() throws Exception {
+		String solution = Olympics.solve(grid7, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid7, solution));
+		assertEquals(planLength(Olympics.solve(grid7, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze4() throws Exception {
+		String solution = Olympics.solve(grid8, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid8, solution));
+		assertEquals(planLength(Olympics.solve(grid8, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze5() throws Exception {
+		String solution = Olympics.solve(grid9, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid9, solution));
+		assertEquals(planLength(Olympics.solve(grid9, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze6() throws Exception {
+		String solution = Olympics.solve(grid10, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid10, solution));
+		assertEquals(planLength(Olympics.solve(grid10, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze7() throws Exception {
+		String solution = Olympics.solve(grid11, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid11, solution));
+		assertEquals(planLength(Olympics.solve(grid11, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze8() throws Exception {
+		String solution = Olympics.solve(grid12, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid12, solution));
+		assertEquals(planLength(Olympics.solve(grid12, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze9() throws Exception {
+		String solution = Olympics.solve(grid13, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid13, solution));
+		assertEquals(planLength(Olympics.solve(grid13, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze10() throws Exception {
+		String solution = Olympics.solve(grid14, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+		assertEquals(planLength(Olympics.solve(grid14, "AS2", false)), planLength(solution));
+	}
+	
+	@Test(timeout = 70000)
+	public void testze11() throws Exception {
+		String solution = Olympics.solve(grid15, "AS2-BQ", false);
+		solution = solution.replace(" ", "");
+		assertTrue("The output actions do not lead to a goal state.", applyPlan(grid15, solution));
+		assertEquals(planLength(Olympics.solve(grid15, "AS2", false)), planLength(solution));
+	}
+	
+		@Test(timeout = 70000)
+	public void testzf1() throws Exception {
+		BucketFrontier frontier = new BucketFrontier();
+		int[] evaluations = {15000, -3, 15149, 7, 15000, 40000, -20000};
+		
+		for (int i = 0; i < evaluations.length; ++i) {
+			frontier.add(new Node(i, NodeArena.NO_PARENT, 0, 0, 0, evaluations[i]));
+		}
+		
+		// A better node of a queued state replaces the queued one, a worse one is dropped
+		assertTrue(frontier.improves(1, 20000));
+		frontier.add(new Node(1, NodeArena.NO_PARENT, 0, 0, 0, 20000));
+		assertFalse(frontier.improves(3, 5));
+		frontier.add(new Node(3, NodeArena.NO_PARENT, 0, 0, 0, 5));
+		assertEquals(evaluations.length, frontier.size());
+		
+		for (int evaluation : new int[]{40000, 20000, 15149, 15000, 15000, 7, -20000}) {
+			assertEquals(evaluation, frontier.remove().evaluation);
+		}
+		
+		// States that left the frontier are not queued again
+		frontier.add(new Node(5, NodeArena.NO_PARENT, 0, 0, 0, 50000));
+		assertTrue(frontier.isEmpty());
+	}
+	
+	@Test(timeout = 70000)
+	public void testz2() throws Exception {
+		SearchResult result = Olympics.solveWithStatistics(grid9, "BF", false);
+		SearchStatistics statistics = result.statistics;
+		
+		assertEquals(Long.parseLong(result.solution.split(";")[1]), statistics.expandedNodes);
+		assertEquals(planLength(result.solution), statistics.solutionDepth);
+		assertTrue(statistics.generatedNodes > statistics.expandedNodes);
+		assertTrue(statistics.duplicateHits > 0);
+		// Breadth first search marks every generated state as visited and never queues a state twice
+		assertEquals(statistics.generatedNodes, statistics.peakVisitedSize);
+		assertTrue(0 < statistics.peakFrontierSize && statistics.peakFrontierSize < statistics.generatedNodes);
+		assertTrue(statistics.wallTimeNanos > 0);
+		assertTrue(statistics.cpuTimeNanos == -1 || statistics.cpuTimeNanos > 0);
+		assertTrue(statistics.allocatedBytes == -1 || statistics.allocatedBytes > 0);
+		
+		// A uniform tree of the solution depth with the effective branching factor holds the generated nodes
+		double branching = statistics.effectiveBranchingFactor();
+		double nodes = 0;
+		
+		for (int depth = 0; depth <= statistics.solutionDepth; ++depth) {
+			nodes += Math.pow(branching, depth);
+		}
+		
+		assertTrue(branching > 1);
+		assertEquals(1, nodes / statistics.generatedNodes, 0.01);
+		
+		// Jarvis is walled in by poison cells
+		SearchResult none = Olympics.solveWithStatistics("3,3;0,0;2,2;1,1;0,1,1,0", "BF", false);
+		
+		assertEquals("No Solution!", none.solution);
+		assertEquals(1, none.statistics.expandedNodes);
+		assertEquals(1, none.statistics.generatedNodes);
+		assertEquals(-1, none.statistics.solutionDepth);
+		assertEquals(0, none.statistics.effectiveBranchingFactor(), 0);
+	}
+	
+	@Test(timeout = 70000)
+	public void testz3() throws Exception {
+		Olympics olympics = new Olympics(grid13);
+		
+		// Strategies that do not use heuristicThree never create the heuristic cache of the grid
+		olympics.generalSearch("GR1");
+		assertNull(olympics.heuristicCache);
+		
+		olympics.generalSearch("GR3");
+		assertSame(Olympics.heuristicCache(CompiledProblem.compile(" " + grid13 + " ")), olympics.heuristicCache);
+	}
+	
+	@Test(timeout = 70000)
+	public void testzg() throws Exception {
+		// The tables are decoded once and shared with every solve of the problem
+		CompiledProblem compiled = CompiledProblem.compile(grid5);
+		Olympics olympics = new Olympics(compiled);
+		assertSame(compiled.obstacles(), olympics.poisonous);
+		assertSame(compiled.componentIndex(), olympics.componentIndex);
+		assertSame(compiled.componentCells(), compiled.componentCells());
+		assertEquals(0 * 5 + 3, compiled.componentCell(0));
+		
+		try (GridCorpus problems = GridCorpus.open(corpus(compiled.record()))) {
+			assertEquals(compiled, problems.iterator().next());
+		}
+		
+		// Records of a corpus are rejected like descriptions, at the offset of the overlapping cell
+		assertEquals(12, corpusError(5, 5, 7, 17, 2, 3, 3, 1, 1));
+		assertEquals(13, corpusError(5, 5, 7, 17, 1, 3, 1, 3));
+		assertEquals(12, corpusError(5, 5, 7, 17, 0, 1, 7));
+		assertEquals(12, corpusError(5, 5, 7, 17, 0, 1, 17));
+		assertEquals(10, corpusError(5, 5, 7, 17, 100, 1));
+	}
+	
+	private Path corpus(ByteBuffer record) throws Exception {
+		byte[] bytes = new byte[6 + record.remaining()];
+		bytes[0] = 'O';
+		bytes[1] = 'L';
+		bytes[2] = 'Y';
+		bytes[3] = 'G';
+		bytes[4] = GridCorpus.VERSION;
+		bytes[5] = (byte) record.remaining();
+		record.get(bytes, 6, record.remaining());
+		
+		Path corpus = Files.createTempFile("grids", ".olyg");
+		corpus.toFile().deleteOnExit();
+		
+		return Files.write(corpus, bytes);
+	}
+	
+	private long corpusError(int... record) throws Exception {
+		byte[] bytes = new byte[record.length];
+		
+		for (int i = 0; i < record.length; ++i) {
+			bytes[i] = (byte) record[i];
+		}
+		
+		try (GridCorpus problems = GridCorpus.open(corpus(ByteBuffer.wrap(bytes)))) {
+			problems.iterator().next();
+			fail("The record is malformed");
+			return -1;
+		} catch (GridFormatException e) {
+			return e.offset;
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzh() throws Exception {
+		// The estimate is the distance from the cell after the move to the closest target it still has to visit
+		Olympics olympics = new Olympics(grid5);
+		long onlyLast = PackedState.pack(2 * 5 + 3, 1L << 2, false);
+		assertEquals(1, olympics.estimate(1, onlyLast, Olympics.DOWN));
+		assertEquals(3, olympics.estimate(1, onlyLast, Olympics.UP));
+		assertEquals(1, olympics.estimate(2, onlyLast, Olympics.DOWN));
+		assertEquals(2, olympics.estimate(2, onlyLast, Olympics.LEFT));
+		
+		// The closest target is chosen from the cell after the move, not from the cell before it
+		long edge = PackedState.pack(2 * 5 + 0, 1L << 1 | 1L << 3, false);
+		assertEquals(1, olympics.estimate(1, edge, Olympics.DOWN));
+		
+		// A pick removes its component from the targets
+		long beside = PackedState.pack(2 * 5 + 1, 1L << 1 | 1L << 3, false);
+		assertEquals(3, olympics.estimate(1, beside, Olympics.PICK));
+		
+		// Without components the target is the flame, and a lit flame has no target
+		long picked = PackedState.pack(2 * 5 + 2, 0, false);
+		assertEquals(0, olympics.estimate(1, picked, Olympics.DOWN));
+		assertEquals(2, olympics.estimate(1, picked, Olympics.UP));
+		assertEquals(0, olympics.estimate(2, PackedState.pack(3 * 5 + 2, 0, false), Olympics.LIGHT));
+		
+		// Consistency: the estimate of a node never exceeds the cost of the next operation plus the estimate of its child
+		SuccessorBuffer children = new SuccessorBuffer(Olympics.operators.length);
+		SuccessorBuffer grandchildren = new SuccessorBuffer(Olympics.operators.length);
+		
+		for (int heuristic = 1; heuristic <= 3; ++heuristic) {
+			for (int cell = 0; cell < 25; ++cell) {
+				for (long components = 0; components < 1 << 5; ++components) {
+					long state = PackedState.pack(cell, components, false);
+					
+					if (olympics.isPoisonous(cell / 5, cell % 5)) {
+						continue;
+					}
+					
+					children.clear();
+					olympics.successors(state, children);
+					
+					for (int i = 0; i < children.size; ++i) {
+						int estimate = olympics.estimate(heuristic, state, children.operators[i]);
+						
+						grandchildren.clear();
+						olympics.successors(children.states[i], grandchildren);
+						
+						for (int j = 0; j < grandchildren.size; ++j) {
+							int operator = grandchildren.operators[j];
+							int cost = operator == Olympics.PICK || operator == Olympics.LIGHT ? 0 : 1;
+							
+							assertTrue(estimate <= cost + olympics.estimate(heuristic, children.states[i], operator));
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzi() throws Exception {
+		// Greedy and A* nodes hold the real reward of their path, not the sum of the estimates along it
+		for (String strategy : new String[]{"GR1", "GR2", "AS1", "AS2"}) {
+			Olympics olympics = new Olympics(grid6);
+			int heuristic = strategy.charAt(2) - '0';
+			SearchEngine engine = strategy.startsWith("GR")
+					? new SearchEngine(olympics, new PriorityFrontier(), olympics.greedyEvaluator(heuristic))
+					: new SearchEngine(olympics, olympics.indexedFrontier(), olympics.aStarEvaluator(heuristic));
+			Node solution = engine.search();
+			String plan = olympics.printSolution(solution, engine.arena, 0);
+			assertEquals(reward(plan), solution.pathCost);
+		}
+		
+		// A* orders by the reward bound minus the estimate, greedy search by the path cost minus the estimate
+		Olympics olympics = new Olympics(grid5);
+		Node root = new Node(olympics.initialPackedState);
+		NodeEvaluator aStar = olympics.aStarEvaluator(1);
+		NodeEvaluator greedy = olympics.greedyEvaluator(1);
+		int g = aStar.g(root, Olympics.DOWN);
+		int h = aStar.h(root, Olympics.DOWN);
+		assertEquals(-1, g);
+		assertEquals(olympics.rewardBound(root, Olympics.DOWN, g) - h, aStar.f(root, Olympics.DOWN, g, h));
+		assertEquals(-h, greedy.f(root, Olympics.DOWN, g, h));
+		
+		// With every reward fixed the best reward is the one of the shortest plan, which A* has to find
+		int best = reward(Olympics.solve(grid6, "BF", false));
+		assertEquals(best, reward(Olympics.solve(grid6, "AS1", false)));
+		assertEquals(best, reward(Olympics.solve(grid6, "AS2", false)));
+	}
+	
+	private int reward(String solution) {
+		int reward = 0;
+		
+		for (String operator : solution.replace(" ", "").split(";")[0].split(",")) {
+			switch (operator) {
+				case "pick" -> reward += Olympics.PICK_REWARD;
+				case "light" -> reward += Olympics.LIGHT_REWARD;
+				default -> reward -= 1;
+			}
+		}
+		
+		return reward;
+	}
+	
+	@Test(timeout = 70000)
+	public void testzj() throws Exception {
+		// Random grids where an inconsistent estimate closed states through a longer path than breadth first search
+		for (long seed : new long[]{80, 91}) {
+			String grid = Olympics.genGrid(seed);
+			int best = planLength(Olympics.solve(grid, "BF", false));
+			
+			assertEquals(best, planLength(Olympics.solve(grid, "AS1", false)));
+			assertEquals(best, planLength(Olympics.solve(grid, "AS2", false)));
+			assertEquals(best, planLength(Olympics.solve(grid, "UC", false)));
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzk() throws Exception {
+		// Random grids where the bucket queue closed states through a longer path than breadth first search
+		for (long seed : new long[]{56, 112, 138}) {
+			String grid = Olympics.genGrid(seed);
+			int best = planLength(Olympics.solve(grid, "BF", false));
+			
+			assertEquals(best, planLength(Olympics.solve(grid, "AS1-BQ", false)));
+			assertEquals(best, planLength(Olympics.solve(grid, "AS2-BQ", false)));
+			assertEquals(best, planLength(Olympics.solve(grid, "UC-BQ", false)));
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzl() throws Exception {
+		// The calling thread runs the first worker and the executor the others
+		Olympics olympics = new Olympics(grid8);
+		List<Thread> threads = new ArrayList<>();
+		ParallelAStarEngine engine = new ParallelAStarEngine(olympics, olympics.aStarEvaluator(1), 3, task -> {
+			Thread thread = new Thread(task);
+			threads.add(thread);
+			thread.start();
+		});
+		assertEquals(planLength(Olympics.solve(grid8, "BF", false)), planLength(olympics.printSolution(engine.search(), 0)));
+		assertEquals(2, threads.size());
+		
+		// Inside a pool the searches only use the threads of the pool that are not busy, the active thread count of a
+		// pool is an estimate so only a saturated pool gives an exact number
+		ForkJoinPool pool = new ForkJoinPool(3);
+		
+		try {
+			int workers = pool.submit(() -> new ParallelAStarEngine(olympics, olympics.aStarEvaluator(1), 8).workers).get();
+			assertTrue(1 <= workers && workers <= 3);
+			assertEquals(8, new ParallelAStarEngine(olympics, olympics.aStarEvaluator(1), 8).workers);
+			
+			CountDownLatch busy = new CountDownLatch(2);
+			CountDownLatch release = new CountDownLatch(1);
+			
+			for (int i = 0; i < 2; ++i) {
+				pool.submit(() -> {
+					busy.countDown();
+					release.await();
+					return null;
+				});
+			}
+			
+			busy.await();
+			assertEquals(1, (int) pool.submit(() -> new ParallelAStarEngine(olympics, olympics.aStarEvaluator(1), 8).workers).get());
+			release.countDown();
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzm() throws Exception {
+		// Parallel breadth first search runs its chunks in the pool of the caller and only uses its idle threads
+		Olympics olympics = new Olympics(grid14);
+		ForkJoinPool pool = new ForkJoinPool(2);
+		
+		try {
+			int workers = pool.submit(() -> new ParallelBreadthFirstEngine(olympics, 8).workers).get();
+			assertTrue(1 <= workers && workers <= 2);
+			assertEquals(8, new ParallelBreadthFirstEngine(olympics, 8).workers);
+			
+			String solution = pool.submit(() -> Olympics.solve(grid14, "PBF", false)).get().replace(" ", "");
+			assertTrue("The output actions do not lead to a goal state.", applyPlan(grid14, solution));
+			assertEquals(planLength(Olympics.solve(grid14, "BF", false)), planLength(solution));
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test(timeout = 70000)
+	public void testzn() throws Exception {
+		// A tour longer than the largest distance of the distance table is still a solution
+		String grid = "1,32767;0,0;0,1;0,32766,0,2;";
+		String solution = Olympics.solve(grid, "DP", false);
+		assertEquals(2 + 32764 + 32765 + 3, planLength(solution));
+		
+		// A component cut off by poison cells has no tour
+		assertEquals("No Solution!", Olympics.solve("1,5;0,0;0,1;0,4;0,3", "DP", false));
+	}
+	
+	private long gridError(String grid) {
+		try {
+			CompiledProblem.compile(grid);
+		} catch (GridFormatException e) {
+			return e.offset;
+		}
+		
+		return -1;
+	}
+	
+	private boolean applyPlan(String grid, String solution) {
+		char[][] g = convertToGrid(grid);
+		String plan = solution.split(";")[0];
+		plan.replace(" ", "");
+		plan.replace("\n", "");
+		plan.replace("\r", "");
+		plan.replace("\n\r", "");
+		plan.replace("\t", "");
+		String[] actions = plan.split(",");
+		String[] gridArray=  grid.split(";");
+		String[] jarvis = gridArray[1].split(",");
+
+		int componentsNum  = (gridArray[3].split(",").length)/2;
+		int[] result = new int[3];
+		result[0] = Integer.parseInt(jarvis[0]);
+		result[1] = Integer.parseInt(jarvis[1]);
+		result[2] = componentsNum;
+		for (int i = 0; i < actions.length; i++) {
+			switch (actions[i]) {
+			case "up":
+				applyUp(g, result);
+				break;
+			case "down":
+				applyDown(g, result);
+				break;
+			case "right":
+				applyRight(g, result);
+				break;
+			case "left":
+				applyLeft(g, result);
+				break;
+			case "pick":
+				applyPick(g, result);
+				break;
+			case "light":
+				applyLight(g, result);
+				break;
+			}
+		}
+		return done(result);
+	}
+	
+	private int planLength(String solution) {
+		return solution.split(";")[0].split(",").length;
+	}
+
 	private boolean done(int[] result) {
 		return result[2]==-1;
 	}